@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+# Cold start of the default build against the fast-startup build (mvn -Pfast-startup): time from launching the JVM to
+# the first successful POST /simulate, and the resident set size at that moment. Each build is started RUNS times and
+# the median of each measure is reported. Needs Java 21, curl and Linux (RSS is read from /proc).
+#
+# Usage: scripts/startup-benchmark.sh [runs]
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-18081}
+REQUEST='{"loanAmount":10000.00,"paymentTermInMonths":12,"birthDate":"1990-01-01"}'
+
+cd "$(dirname "$0")/.."
+work=target/startup-benchmark
+
+build() {
+    mvn -B -q -DskipTests "$@" package >&2
+    ls target/loan-simulator-service-*.jar
+}
+
+# Starts the application with the given JVM and jar arguments and appends "name millis rss-mb" to the results.
+measure() {
+    local name=$1
+    shift
+    for run in $(seq "$RUNS"); do
+        local history start pid end rss
+        history=$(mktemp -d)
+        start=$(date +%s%N)
+        java "$@" --server.port="$PORT" --loan-simulator.history.directory="$history" > "$work/$name-$run.log" 2>&1 &
+        pid=$!
+        until curl -sf -o /dev/null -X POST "http://localhost:$PORT/api/v1/loan-simulator/simulate" \
+                -H 'Content-Type: application/json' -d "$REQUEST"; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "$name did not start, see $work/$name-$run.log" >&2
+                exit 1
+            fi
+            sleep 0.02
+        done
+        end=$(date +%s%N)
+        rss=$(awk '/^VmRSS/ {print $2}' "/proc/$pid/status")
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+        rm -rf "$history"
+        echo "$name $(((end - start) / 1000000)) $((rss / 1024))" >> "$work/results.txt"
+    done
+}
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print (NR % 2) ? values[(NR + 1) / 2] : int((values[NR / 2] + values[NR / 2 + 1]) / 2) }'
+}
+
+rm -rf "$work"
+mkdir -p "$work"
+
+jar=$(build)
+cp "$jar" "$work/default.jar"
+measure default -jar "$work/default.jar"
+
+# The CDS archive only matches the exact jars it was dumped from, so the fast-startup build runs from target.
+jar=$(build -Pfast-startup)
+measure fast-startup -XX:SharedArchiveFile=target/loan-simulator-service.jsa -Dspring.aot.enabled=true \
+    -Dspring.profiles.active=fast-startup -jar "$jar"
+
+printf '%-14s %22s %14s\n' build "first /simulate (ms)" "RSS (MB)"
+for name in default fast-startup; do
+    printf '%-14s %22s %14s\n' "$name" \
+        "$(awk -v n="$name" '$1 == n {print $2}' "$work/results.txt" | median)" \
+        "$(awk -v n="$name" '$1 == n {print $3}' "$work/results.txt" | median)"
+done
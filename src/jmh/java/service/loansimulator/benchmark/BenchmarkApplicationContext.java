@@ -0,0 +1,35 @@
+package service.loansimulator.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import service.loan.LoanSimulatorServiceApplication;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application without a web server for benchmarks that need the real bean graph, including the Resilience4j
+ * aspect proxies. The rate limiter and bulkhead are opened up so that the benchmark measures the cost of the aspects
+ * and not time spent waiting for permits.
+ */
+final class BenchmarkApplicationContext {
+
+    private BenchmarkApplicationContext() {
+    }
+
+    /**
+     * Properties are passed as command-line arguments so that they take precedence over {@code application.yml}.
+     */
+    static ConfigurableApplicationContext start(String... extraArguments) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--logging.level.root=WARN",
+                "--resilience4j.ratelimiter.instances.loanSimulation.limitForPeriod=1000000000",
+                "--resilience4j.bulkhead.instances.loanSimulation.maxConcurrentCalls=10000"));
+        arguments.addAll(List.of(extraArguments));
+        return new SpringApplicationBuilder(LoanSimulatorServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run(arguments.toArray(String[]::new));
+    }
+}
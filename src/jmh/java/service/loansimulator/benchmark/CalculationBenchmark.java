@@ -0,0 +1,75 @@
+package service.loansimulator.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.service.engine.AnnuityFactorTable;
+import service.loan.service.engine.BigDecimalCalculationEngine;
+import service.loan.service.engine.CalculationEngine;
+import service.loan.service.engine.FastCalculationEngine;
+import service.loan.service.execution.InlineSimulationDispatcher;
+import service.loan.service.impl.LoanSimulatorServiceImpl;
+import service.loan.service.rate.InterestRateBands;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payment math without Spring: {@code calculateMonthlyPayment} for each engine and for the precomputed table, across
+ * short and long terms, plus the age-band rate lookup.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CalculationBenchmark {
+
+    @Param({"12", "60", "360", "600"})
+    private int termInMonths;
+
+    @Param({"reference", "fast", "table"})
+    private String engine;
+
+    private LoanSimulatorServiceImpl service;
+    private BigDecimal loanAmount;
+    private BigDecimal monthlyInterestRate;
+    private LocalDate birthDate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CalculationEngine calculationEngine = "reference".equals(engine) ? new BigDecimalCalculationEngine() : new FastCalculationEngine();
+        LoanSimulatorProperties properties = new LoanSimulatorProperties();
+        // A zero-sized table sends every lookup to the engine, which isolates the engine cost.
+        properties.getCalculation().setMaxTermInMonths("table".equals(engine) ? 600 : 0);
+        InterestRateBands interestRateBands = new InterestRateBands(event -> {
+        });
+        service = new LoanSimulatorServiceImpl(new AnnuityFactorTable(calculationEngine, interestRateBands, properties), interestRateBands,
+                new InlineSimulationDispatcher());
+        loanAmount = new BigDecimal("25000.00");
+        monthlyInterestRate = AnnuityFactorTable.monthlyRate(BigDecimal.valueOf(0.03));
+        birthDate = LocalDate.of(1990, 5, 15);
+    }
+
+    @Benchmark
+    public BigDecimal calculateMonthlyPayment() {
+        return service.calculateMonthlyPayment(loanAmount, monthlyInterestRate, termInMonths);
+    }
+
+    @Benchmark
+    public BigDecimal calculateAnnualInterestRate() {
+        return service.calculateAnnualInterestRate(birthDate);
+    }
+}
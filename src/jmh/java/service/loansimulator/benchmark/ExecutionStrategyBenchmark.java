@@ -0,0 +1,67 @@
+package service.loansimulator.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.LoanSimulationResponse;
+import service.loan.service.LoanSimulatorService;
+import service.loan.service.impl.LoanSimulatorServiceImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency distribution of {@code simulateLoan} under concurrent callers for each execution strategy. Sample-time mode
+ * reports p50/p90/p99/p99.9, which is where the cost of a thread hand-off shows up.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecutionStrategyBenchmark {
+
+    @Param({"inline", "virtual", "platform"})
+    private String strategy;
+
+    private ConfigurableApplicationContext context;
+    private LoanSimulatorService service;
+    private LoanSimulationRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplicationContext.start("--loan-simulator.execution.strategy=" + strategy);
+        service = context.getBean(LoanSimulatorServiceImpl.class);
+        request = LoanSimulationRequest.builder()
+                .loanAmount(new BigDecimal("25000.00"))
+                .birthDate(LocalDate.of(1990, 5, 15))
+                .paymentTermInMonths(60)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LoanSimulationResponse simulateLoan() {
+        return service.simulateLoan(request);
+    }
+}
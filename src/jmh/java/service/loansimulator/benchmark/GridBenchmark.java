@@ -0,0 +1,85 @@
+package service.loansimulator.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.context.ConfigurableApplicationContext;
+import service.loan.model.LoanSimulationGridRequest;
+import service.loan.model.LoanSimulationGridResponse;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.service.LoanSimulationGridService;
+import service.loan.service.LoanSimulatorService;
+import service.loan.service.impl.LoanSimulatorServiceImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A 20 amounts x 30 terms pricing matrix, computed by the grid endpoint and as 600 separate simulations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GridBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private LoanSimulationGridService gridService;
+    private LoanSimulatorService simulatorService;
+    private LoanSimulationGridRequest gridRequest;
+    private LoanSimulationRequest[] cellRequests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplicationContext.start();
+        gridService = context.getBean(LoanSimulationGridService.class);
+        simulatorService = (LoanSimulatorService) AopProxyUtils.getSingletonTarget(context.getBean(LoanSimulatorServiceImpl.class));
+        LocalDate birthDate = LocalDate.of(1990, 5, 15);
+        gridRequest = LoanSimulationGridRequest.builder()
+                .birthDate(birthDate)
+                .loanAmountFrom(new BigDecimal("5000.00")).loanAmountTo(new BigDecimal("100000.00")).loanAmountStep(new BigDecimal("5000.00"))
+                .paymentTermFrom(12).paymentTermTo(360).paymentTermStep(12)
+                .build();
+        cellRequests = new LoanSimulationRequest[600];
+        for (int t = 0; t < 30; t++) {
+            for (int a = 0; a < 20; a++) {
+                cellRequests[t * 20 + a] = LoanSimulationRequest.builder()
+                        .loanAmount(new BigDecimal("5000.00").multiply(BigDecimal.valueOf(a + 1)))
+                        .paymentTermInMonths(12 * (t + 1))
+                        .birthDate(birthDate)
+                        .build();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LoanSimulationGridResponse grid() {
+        return gridService.simulateGrid(gridRequest);
+    }
+
+    @Benchmark
+    public void cellByCell(Blackhole blackhole) {
+        for (LoanSimulationRequest request : cellRequests) {
+            blackhole.consume(simulatorService.computeSimulation(request));
+        }
+    }
+}
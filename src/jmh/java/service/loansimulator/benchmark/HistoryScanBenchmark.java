@@ -0,0 +1,93 @@
+package service.loansimulator.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.LoanSimulationResponse;
+import service.loan.service.history.HistoryRecord;
+import service.loan.service.history.SimulationHistoryLog;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * History queries over one million recorded quotes in two segments: a narrow loan amount range, which reads two longs
+ * per record in place and decodes about a hundred matches, and a time range outside every segment, which is skipped
+ * from the segment bounds alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HistoryScanBenchmark {
+    private static final int QUOTES = 1_000_000;
+
+    private Path directory;
+    private SimulationHistoryLog history;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException, IOException {
+        directory = Files.createTempDirectory("history-benchmark");
+        LoanSimulatorProperties properties = new LoanSimulatorProperties();
+        properties.getHistory().setEnabled(true);
+        properties.getHistory().setDirectory(directory.toString());
+        properties.getHistory().setSegmentRecords(QUOTES / 2);
+        history = new SimulationHistoryLog(properties);
+        history.start();
+        LoanSimulationResponse response = LoanSimulationResponse.builder()
+                .monthlyPayment(new BigDecimal("449.22")).totalAmount(new BigDecimal("26953.04"))
+                .totalInterest(new BigDecimal("1953.04")).annualInterestRate(new BigDecimal("3.00")).build();
+        for (int i = 0; i < QUOTES; i++) {
+            LoanSimulationRequest request = LoanSimulationRequest.builder()
+                    .loanAmount(BigDecimal.valueOf(1_000 + i % 10_000)).birthDate(LocalDate.of(1990, 1, 1)).paymentTermInMonths(60).build();
+            history.record(request, response);
+            if (i % 10_000 == 0) {
+                while (this.scanAll().size() < i) {
+                    Thread.sleep(1);
+                }
+            }
+        }
+        while (this.scanAll().size() < QUOTES) {
+            Thread.sleep(10);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        history.stop();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    private List<HistoryRecord> scanAll() {
+        return history.query(Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public List<HistoryRecord> narrowAmountRange() {
+        return history.query(Long.MIN_VALUE, Long.MAX_VALUE, 500_000, 500_000, 1_000);
+    }
+
+    @Benchmark
+    public List<HistoryRecord> timeRangeOutsideSegments() {
+        return history.query(0, 1_000, Long.MIN_VALUE, Long.MAX_VALUE, 1_000);
+    }
+}
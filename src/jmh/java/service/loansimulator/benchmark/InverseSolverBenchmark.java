@@ -0,0 +1,78 @@
+package service.loansimulator.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.context.ConfigurableApplicationContext;
+import service.loan.model.LoanSolutionResponse;
+import service.loan.model.MaxLoanAmountRequest;
+import service.loan.model.MinPaymentTermRequest;
+import service.loan.service.LoanInverseSolverService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one inverse-solver answer, without the Resilience4j aspects, for short and long terms.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InverseSolverBenchmark {
+
+    @Param({"12", "360"})
+    private int termInMonths;
+
+    private ConfigurableApplicationContext context;
+    private LoanInverseSolverService solver;
+    private MaxLoanAmountRequest maxLoanAmountRequest;
+    private MinPaymentTermRequest minPaymentTermRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplicationContext.start();
+        solver = (LoanInverseSolverService) AopProxyUtils.getSingletonTarget(context.getBean(LoanInverseSolverService.class));
+        LocalDate birthDate = LocalDate.of(1990, 5, 15);
+        BigDecimal monthlyPayment = new BigDecimal("846.94");
+        maxLoanAmountRequest = MaxLoanAmountRequest.builder()
+                .monthlyPayment(monthlyPayment)
+                .paymentTermInMonths(termInMonths)
+                .birthDate(birthDate)
+                .build();
+        minPaymentTermRequest = MinPaymentTermRequest.builder()
+                .monthlyPayment(monthlyPayment)
+                .loanAmount(solver.solveMaxLoanAmount(maxLoanAmountRequest).getLoanAmount())
+                .birthDate(birthDate)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LoanSolutionResponse maxLoanAmount() {
+        return solver.solveMaxLoanAmount(maxLoanAmountRequest);
+    }
+
+    @Benchmark
+    public LoanSolutionResponse minPaymentTerm() {
+        return solver.solveMinPaymentTerm(minPaymentTermRequest);
+    }
+}
@@ -0,0 +1,69 @@
+package service.loansimulator.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.LoanSimulationResponse;
+import service.loan.service.impl.LoanSimulatorServiceImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the stage timers, counters and allocation tracking: {@code simulateLoan} through the full aspect chain with
+ * metrics off, at the default sampling probability, and with every call timed. JMH threads are platform threads, so
+ * the allocation reads are included.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsOverheadBenchmark {
+
+    @Param({"off", "sampled", "every"})
+    public String metrics;
+
+    private ConfigurableApplicationContext context;
+    private LoanSimulatorServiceImpl service;
+    private LoanSimulationRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = switch (metrics) {
+            case "off" -> BenchmarkApplicationContext.start("--loan-simulator.metrics.enabled=false");
+            case "every" -> BenchmarkApplicationContext.start("--loan-simulator.metrics.sampling-probability=1.0");
+            default -> BenchmarkApplicationContext.start();
+        };
+        service = context.getBean(LoanSimulatorServiceImpl.class);
+        request = LoanSimulationRequest.builder()
+                .loanAmount(new BigDecimal("25000.00"))
+                .birthDate(LocalDate.of(1990, 5, 15))
+                .paymentTermInMonths(60)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LoanSimulationResponse simulateLoan() {
+        return service.simulateLoan(request);
+    }
+}
@@ -0,0 +1,82 @@
+package service.loansimulator.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.model.MeanRevertingRateModel;
+import service.loan.model.MonteCarloSimulationRequest;
+import service.loan.model.MonteCarloSimulationResponse;
+import service.loan.service.engine.AnnuityFactorTable;
+import service.loan.service.engine.FastCalculationEngine;
+import service.loan.service.execution.InlineSimulationDispatcher;
+import service.loan.service.impl.LoanSimulatorServiceImpl;
+import service.loan.service.impl.MonteCarloSimulationServiceImpl;
+import service.loan.service.rate.InterestRateBands;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One 10,000-path, 360-month Monte Carlo run for increasing fork/join pool sizes. Pool sizes above the number of
+ * cores of the machine show where scaling stops.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MonteCarloBenchmark {
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int parallelism;
+
+    private ForkJoinPool pool;
+    private MonteCarloSimulationServiceImpl service;
+    private MonteCarloSimulationRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LoanSimulatorProperties properties = new LoanSimulatorProperties();
+        InterestRateBands bands = new InterestRateBands(event -> {
+        });
+        LoanSimulatorServiceImpl loanSimulatorService = new LoanSimulatorServiceImpl(
+                new AnnuityFactorTable(new FastCalculationEngine(), bands, properties), bands, new InlineSimulationDispatcher());
+        pool = new ForkJoinPool(parallelism);
+        service = new MonteCarloSimulationServiceImpl(loanSimulatorService, bands, pool, properties);
+        request = MonteCarloSimulationRequest.builder()
+                .loanAmount(new BigDecimal("300000.00"))
+                .paymentTermInMonths(360)
+                .birthDate(LocalDate.of(1990, 5, 15))
+                .rateModel(MeanRevertingRateModel.builder()
+                        .seed(2024L)
+                        .paths(10_000)
+                        .volatility(new BigDecimal("0.01"))
+                        .meanReversion(new BigDecimal("0.3"))
+                        .build())
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.close();
+    }
+
+    @Benchmark
+    public MonteCarloSimulationResponse simulate() {
+        return service.simulate(request);
+    }
+}
@@ -0,0 +1,50 @@
+package service.loansimulator.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import service.loan.service.rate.InterestRateBands;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annual rate for a birth date: the epoch-day index against computing the age with {@link Period} on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLookupBenchmark {
+
+    private InterestRateBands bands;
+    private LocalDate birthDate;
+
+    @Setup
+    public void setUp() {
+        bands = new InterestRateBands(event -> {
+        });
+        birthDate = LocalDate.of(1990, 5, 15);
+    }
+
+    @Benchmark
+    public BigDecimal epochDayIndex() {
+        return bands.annualRateForBirthDate(birthDate);
+    }
+
+    @Benchmark
+    public BigDecimal periodBetween() {
+        return bands.annualRateForAge(Period.between(birthDate, LocalDate.now()).getYears());
+    }
+}
@@ -0,0 +1,85 @@
+package service.loansimulator.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.context.ConfigurableApplicationContext;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.LoanSimulationResponse;
+import service.loan.service.LoanSimulatorService;
+import service.loan.service.impl.LoanSimulatorServiceImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@code simulateLoan} as wired by Spring: through the Resilience4j aspect proxy, on the bare target bean,
+ * and the synchronous {@code computeSimulation} path, plus Jackson serialization of the response with the
+ * application's {@link ObjectMapper}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SimulateLoanBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private LoanSimulatorService guardedService;
+    private LoanSimulatorService unguardedService;
+    private ObjectMapper objectMapper;
+    private LoanSimulationRequest request;
+    private LoanSimulationResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplicationContext.start();
+        guardedService = context.getBean(LoanSimulatorServiceImpl.class);
+        unguardedService = (LoanSimulatorService) AopProxyUtils.getSingletonTarget(guardedService);
+        objectMapper = context.getBean(ObjectMapper.class);
+        request = LoanSimulationRequest.builder()
+                .loanAmount(new BigDecimal("25000.00"))
+                .birthDate(LocalDate.of(1990, 5, 15))
+                .paymentTermInMonths(60)
+                .build();
+        response = unguardedService.computeSimulation(request);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LoanSimulationResponse simulateLoanWithAspects() {
+        return guardedService.simulateLoan(request);
+    }
+
+    @Benchmark
+    public LoanSimulationResponse simulateLoanWithoutAspects() {
+        return unguardedService.simulateLoan(request);
+    }
+
+    @Benchmark
+    public LoanSimulationResponse computeSimulation() {
+        return unguardedService.computeSimulation(request);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
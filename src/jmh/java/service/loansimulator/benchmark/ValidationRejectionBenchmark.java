@@ -0,0 +1,95 @@
+package service.loansimulator.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import service.loan.controller.LoanSimulatorController;
+import service.loan.exception.GlobalExceptionHandler;
+import service.loan.model.LoanSimulationRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code POST /simulate} behind the HTTP layer: the controller call plus JSON serialization of its body, for a valid
+ * request and for one with a non-positive loan amount. {@code rejectWithBeanValidation} replays the former rejection
+ * path, bean validation followed by an exception with a stack trace and a detail joined from the violations.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationRejectionBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private LoanSimulatorController controller;
+    private GlobalExceptionHandler exceptionHandler;
+    private Validator validator;
+    private ObjectMapper objectMapper;
+    private LoanSimulationRequest validRequest;
+    private LoanSimulationRequest invalidRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplicationContext.start();
+        controller = context.getBean(LoanSimulatorController.class);
+        exceptionHandler = context.getBean(GlobalExceptionHandler.class);
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+        objectMapper = context.getBean(ObjectMapper.class);
+        validRequest = LoanSimulationRequest.builder()
+                .loanAmount(new BigDecimal("25000.00"))
+                .birthDate(LocalDate.of(1990, 5, 15))
+                .paymentTermInMonths(60)
+                .build();
+        invalidRequest = LoanSimulationRequest.builder()
+                .loanAmount(BigDecimal.ZERO)
+                .birthDate(LocalDate.of(1990, 5, 15))
+                .paymentTermInMonths(60)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] acceptValidRequest() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(controller.simulateLoan(validRequest, null).getBody());
+    }
+
+    @Benchmark
+    public byte[] rejectInvalidRequest() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(controller.simulateLoan(invalidRequest, null).getBody());
+    }
+
+    @Benchmark
+    public byte[] rejectWithBeanValidation() throws JsonProcessingException {
+        try {
+            Set<ConstraintViolation<LoanSimulationRequest>> violations = validator.validate(invalidRequest);
+            throw new ConstraintViolationException(violations);
+        } catch (ConstraintViolationException ex) {
+            return objectMapper.writeValueAsBytes(exceptionHandler.handleConstraintViolationException(ex).getBody());
+        }
+    }
+}
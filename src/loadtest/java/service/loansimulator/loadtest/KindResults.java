@@ -0,0 +1,86 @@
+package service.loansimulator.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and response statuses of one request kind, recorded concurrently by the sender threads. Latency is taken
+ * from the time the schedule meant to send the request, so time a request spent waiting behind slow ones is counted
+ * (no coordinated omission). Service time is taken from when it was actually sent, as a closed-model client would see
+ * it.
+ */
+final class KindResults {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Map<String, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    void record(String status, long intendedNanos, long sentNanos, long completedNanos) {
+        latency.recordValue(micros(completedNanos - intendedNanos));
+        serviceTime.recordValue(micros(completedNanos - sentNanos));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    void addTo(KindResults total) {
+        total.latency.add(latency);
+        total.serviceTime.add(serviceTime);
+        statuses.forEach((status, count) -> total.statuses.computeIfAbsent(status, key -> new LongAdder()).add(count.sum()));
+    }
+
+    long count() {
+        return latency.getTotalCount();
+    }
+
+    Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", this.count());
+        Map<String, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        summary.put("statuses", counts);
+        summary.put("latencyMillis", percentiles(latency));
+        summary.put("serviceTimeMillis", percentiles(serviceTime));
+        summary.put("latencyHistogram", encode(latency));
+        return summary;
+    }
+
+    static Map<String, Double> percentiles(Histogram histogram) {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES) {
+            percentiles.put("p" + (percentile == Math.rint(percentile) ? Integer.toString((int) percentile) : Double.toString(percentile)),
+                    millis(histogram.getValueAtPercentile(percentile)));
+        }
+        percentiles.put("max", millis(histogram.getMaxValue()));
+        percentiles.put("mean", millis(Math.round(histogram.getMean())));
+        return percentiles;
+    }
+
+    /**
+     * Base64 of the compressed histogram, which {@code Histogram.decodeFromCompressedByteBuffer} reads back to merge
+     * or plot runs.
+     */
+    private static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    private static long micros(long nanos) {
+        return Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0L, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
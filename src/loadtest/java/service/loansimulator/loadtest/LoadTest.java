@@ -0,0 +1,196 @@
+package service.loansimulator.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import service.loan.LoanSimulatorServiceApplication;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Boots the application on a random port and drives {@code POST /simulate} with open-model traffic: requests start at
+ * a constant rate on their own virtual threads, however long earlier ones take, as independent clients would send them.
+ * A warm-up at the same rate runs first and is not recorded. The report lists, per request kind and overall, the
+ * response statuses (429 and 500 from the Resilience4j limits, 202 when overflow queues the call, {@code timeout} and
+ * {@code error} for requests without a response) and latency percentiles, and is written as JSON so runs can be
+ * compared.
+ *
+ * <p>Client and server share this JVM and its cores, so absolute numbers are pessimistic; compare runs made on the
+ * same machine.
+ */
+public final class LoadTest {
+    private static final String SIMULATE_PATH = "/api/v1/loan-simulator/simulate";
+    private static final List<String> DEFAULT_APPLICATION_ARGS = List.of(
+            "--server.port=0",
+            "--logging.level.root=WARN");
+
+    private final LoadTestOptions options;
+    private final URI uri;
+    private final HttpClient client;
+    private final SplittableRandom random;
+    private final RequestKind[] kindByTicket;
+
+    private LoadTest(LoadTestOptions options, URI uri) {
+        this.options = options;
+        this.uri = uri;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(options.timeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.random = new SplittableRandom(options.seed());
+        List<RequestKind> tickets = new ArrayList<>();
+        options.mix().forEach((kind, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                tickets.add(kind);
+            }
+        });
+        this.kindByTicket = tickets.toArray(RequestKind[]::new);
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        try (ConfigurableApplicationContext context = start(options.applicationArgs())) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTest loadTest = new LoadTest(options, URI.create("http://localhost:" + port + SIMULATE_PATH));
+            System.out.printf("Warming up for %s at %.0f requests/s%n", options.warmup(), options.rate());
+            loadTest.run(options.warmup(), null);
+            System.out.printf("Measuring for %s at %.0f requests/s%n", options.duration(), options.rate());
+            Map<RequestKind, KindResults> results = new EnumMap<>(RequestKind.class);
+            options.mix().keySet().forEach(kind -> results.put(kind, new KindResults()));
+            Instant startedAt = Instant.now();
+            Run run = loadTest.run(options.duration(), results);
+            loadTest.report(startedAt, run, results);
+        }
+    }
+
+    /**
+     * Application arguments override the defaults with the same key; Spring would otherwise join repeated values.
+     */
+    private static ConfigurableApplicationContext start(List<String> applicationArgs) {
+        List<String> arguments = new ArrayList<>();
+        for (String defaultArg : DEFAULT_APPLICATION_ARGS) {
+            String key = defaultArg.substring(0, defaultArg.indexOf('=') + 1);
+            if (applicationArgs.stream().noneMatch(arg -> arg.startsWith(key))) {
+                arguments.add(defaultArg);
+            }
+        }
+        arguments.addAll(applicationArgs);
+        return new SpringApplicationBuilder(LoanSimulatorServiceApplication.class)
+                .logStartupInfo(false)
+                .run(arguments.toArray(String[]::new));
+    }
+
+    private record Run(long requests, long elapsedNanos, long maxSenderLagNanos) {
+    }
+
+    /**
+     * Starts {@code rate x duration} requests on schedule and waits for all of them. When the generator falls behind,
+     * late requests go out at once, and their latency still counts from the scheduled time.
+     */
+    private Run run(Duration duration, Map<RequestKind, KindResults> results) {
+        long requests = (long) (duration.toNanos() / 1e9 * options.rate());
+        double intervalNanos = 1e9 / options.rate();
+        long maxSenderLag = 0L;
+        long start = System.nanoTime();
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < requests; i++) {
+                long intended = start + (long) (i * intervalNanos);
+                long wait;
+                while ((wait = intended - System.nanoTime()) > 0L) {
+                    LockSupport.parkNanos(wait);
+                }
+                maxSenderLag = Math.max(maxSenderLag, -wait);
+                RequestKind kind = kindByTicket[random.nextInt(kindByTicket.length)];
+                String body = kind.body(random);
+                senders.execute(() -> this.send(kind, body, intended, results));
+            }
+        }
+        return new Run(requests, System.nanoTime() - start, maxSenderLag);
+    }
+
+    private void send(RequestKind kind, String body, long intendedNanos, Map<RequestKind, KindResults> results) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(options.timeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        long sent = System.nanoTime();
+        String status;
+        try {
+            status = Integer.toString(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+        } catch (HttpTimeoutException e) {
+            status = "timeout";
+        } catch (IOException e) {
+            status = "error";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = "error";
+        }
+        if (results != null) {
+            results.get(kind).record(status, intendedNanos, sent, System.nanoTime());
+        }
+    }
+
+    private void report(Instant startedAt, Run run, Map<RequestKind, KindResults> results) throws IOException {
+        KindResults overall = new KindResults();
+        results.values().forEach(kind -> kind.addTo(overall));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", startedAt.toString());
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("rate", options.rate());
+        settings.put("durationSeconds", options.duration().toMillis() / 1000.0);
+        settings.put("warmupSeconds", options.warmup().toMillis() / 1000.0);
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().forEach((kind, weight) -> mix.put(kind.key(), weight));
+        settings.put("mix", mix);
+        settings.put("seed", options.seed());
+        settings.put("timeoutMillis", options.timeout().toMillis());
+        settings.put("applicationArgs", options.applicationArgs());
+        report.put("options", settings);
+        report.put("requests", run.requests());
+        report.put("achievedRate", run.requests() / (run.elapsedNanos() / 1e9));
+        report.put("maxSenderLagMillis", TimeUnit.NANOSECONDS.toMicros(run.maxSenderLagNanos()) / 1000.0);
+        report.put("overall", overall.summary());
+        Map<String, Object> kinds = new LinkedHashMap<>();
+        results.forEach((kind, kindResults) -> kinds.put(kind.key(), kindResults.summary()));
+        report.put("kinds", kinds);
+
+        Files.createDirectories(options.report().toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.report().toFile(), report);
+
+        System.out.printf("%-10s %8s %10s %10s %10s %10s  %s%n", "kind", "count", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "statuses");
+        this.printRow("overall", overall);
+        results.forEach((kind, kindResults) -> this.printRow(kind.key(), kindResults));
+        System.out.printf("Report written to %s%n", options.report());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void printRow(String name, KindResults results) {
+        Map<String, Object> summary = results.summary();
+        Map<String, Double> latency = (Map<String, Double>) summary.get("latencyMillis");
+        System.out.printf("%-10s %8d %10.2f %10.2f %10.2f %10.2f  %s%n", name, results.count(), latency.get("p50"),
+                latency.get("p99"), latency.get("p99.9"), latency.get("max"), summary.get("statuses"));
+    }
+}
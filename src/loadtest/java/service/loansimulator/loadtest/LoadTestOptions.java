@@ -0,0 +1,66 @@
+package service.loansimulator.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Options of a load-test run, parsed from {@code key=value} arguments. Arguments starting with {@code --} are passed
+ * to the application, e.g. {@code --spring.profiles.active=adaptive}.
+ *
+ * @param rate             requests started per second, whatever the response times
+ * @param duration         length of the measured run
+ * @param warmup           load applied at the same rate before measuring, to get past JIT compilation
+ * @param mix              relative weights of the request kinds, e.g. {@code valid=80,invalid=15,long-term=5}
+ * @param seed             seed of the request generator, so runs send the same requests
+ * @param timeout          time after which a request counts as an error
+ * @param report           JSON report written at the end
+ * @param applicationArgs  arguments for the application
+ */
+record LoadTestOptions(double rate, Duration duration, Duration warmup, Map<RequestKind, Integer> mix, long seed,
+                       Duration timeout, Path report, List<String> applicationArgs) {
+
+    static LoadTestOptions parse(String... args) {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                applicationArgs.add(arg);
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value, got " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        String defaultReport = "target/loadtest/loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json";
+        LoadTestOptions parsed = new LoadTestOptions(
+                Double.parseDouble(take(options, "rate", "200")),
+                DurationStyle.detectAndParse(take(options, "duration", "30s")),
+                DurationStyle.detectAndParse(take(options, "warmup", "10s")),
+                RequestKind.parseMix(take(options, "mix", "valid=80,invalid=15,long-term=5")),
+                Long.parseLong(take(options, "seed", "42")),
+                DurationStyle.detectAndParse(take(options, "timeout", "10s")),
+                Path.of(take(options, "report", defaultReport)),
+                List.copyOf(applicationArgs));
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + options.keySet());
+        } else if (parsed.rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive");
+        }
+        return parsed;
+    }
+
+    private static String take(Map<String, String> options, String key, String defaultValue) {
+        String value = options.remove(key);
+        return value == null ? defaultValue : value;
+    }
+}
@@ -0,0 +1,86 @@
+package service.loansimulator.loadtest;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Kinds of {@code /simulate} request in the load mix, each generating its JSON body from a random source.
+ */
+enum RequestKind {
+    /**
+     * Amounts of 1,000 to 100,000 over 12 to 120 months, for borrowers of 18 to 80.
+     */
+    VALID {
+        @Override
+        String body(SplittableRandom random) {
+            return json(random.nextInt(100_000, 10_000_000) / 100.0, random.nextInt(12, 121), birthDate(random));
+        }
+    },
+    /**
+     * A non-positive amount, a missing term or a birth date in the future, which the service rejects with 400.
+     */
+    INVALID {
+        @Override
+        String body(SplittableRandom random) {
+            return switch (random.nextInt(3)) {
+                case 0 -> json(-random.nextInt(0, 1_000), 60, birthDate(random));
+                case 1 -> "{\"loanAmount\":25000.00,\"birthDate\":\"" + birthDate(random) + "\"}";
+                default -> json(25_000, 60, LocalDate.now().plusDays(random.nextInt(1, 3_650)));
+            };
+        }
+    },
+    /**
+     * Mortgage-sized amounts over 360 to 600 months.
+     */
+    LONG_TERM {
+        @Override
+        String body(SplittableRandom random) {
+            return json(random.nextInt(10_000_000, 100_000_000) / 100.0, random.nextInt(360, 601), birthDate(random));
+        }
+    };
+
+    abstract String body(SplittableRandom random);
+
+    String key() {
+        return this.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    static RequestKind fromKey(String key) {
+        for (RequestKind kind : values()) {
+            if (kind.key().equals(key)) {
+                return kind;
+            }
+        }
+        throw new IllegalArgumentException("Unknown request kind " + key);
+    }
+
+    /**
+     * Parses weights such as {@code valid=80,invalid=15,long-term=5}. Kinds left out get no requests.
+     */
+    static Map<RequestKind, Integer> parseMix(String mix) {
+        Map<RequestKind, Integer> weights = new EnumMap<>(RequestKind.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2 || Integer.parseInt(parts[1]) < 0) {
+                throw new IllegalArgumentException("Expected kind=weight in mix, got " + entry);
+            }
+            weights.put(fromKey(parts[0]), Integer.parseInt(parts[1]));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("mix must have a positive weight");
+        }
+        return weights;
+    }
+
+    private static LocalDate birthDate(SplittableRandom random) {
+        return LocalDate.now().minusYears(random.nextInt(18, 81)).minusDays(random.nextInt(365));
+    }
+
+    private static String json(double loanAmount, int paymentTermInMonths, LocalDate birthDate) {
+        return String.format(Locale.ROOT, "{\"loanAmount\":%.2f,\"paymentTermInMonths\":%d,\"birthDate\":\"%s\"}",
+                loanAmount, paymentTermInMonths, birthDate);
+    }
+}
@@ -0,0 +1,23 @@
+package service.loan.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import service.loan.controller.LoanSimulatorController;
+import service.loan.exception.GlobalExceptionHandler;
+import service.loan.service.LoanSimulatorService;
+import service.loan.validation.LoanSimulationRequestValidator;
+
+@Configuration
+public class LazyInitializationConfig {
+
+    /**
+     * With {@code spring.main.lazy-initialization}, keeps the beans that serve {@code /simulate} eager, so the first
+     * simulation does not pay for creating them. Lifecycle beans such as the history log start eagerly anyway.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter simulationPathExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(LoanSimulatorController.class, LoanSimulatorService.class,
+                LoanSimulationRequestValidator.class, GlobalExceptionHandler.class);
+    }
+}
@@ -0,0 +1,425 @@
+package service.loan.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "loan-simulator")
+public class LoanSimulatorProperties {
+    private Calculation calculation = new Calculation();
+    private Rates rates = new Rates();
+    private Execution execution = new Execution();
+    private Cache cache = new Cache();
+    private Overflow overflow = new Overflow();
+    private Limiter limiter = new Limiter();
+    private Batch batch = new Batch();
+    private Grid grid = new Grid();
+    private MonteCarlo monteCarlo = new MonteCarlo();
+    private Stream stream = new Stream();
+    private Metrics metrics = new Metrics();
+    private History history = new History();
+    private Quota quota = new Quota();
+
+    @Data
+    public static class Calculation {
+        /**
+         * Annuity-factor engine: {@code reference} (unlimited-precision BigDecimal) or {@code fast} (bounded
+         * precision, same results).
+         */
+        private String engine = "reference";
+
+        /**
+         * Longest term precomputed in the annuity-factor table. Longer terms are computed by the engine on demand.
+         */
+        private int maxTermInMonths = 600;
+    }
+
+    @Data
+    public static class Rates {
+        /**
+         * JSON file holding the rate bands, as an array of {@code {"maxAge": 25, "annualRate": 0.05}} objects sorted by
+         * age with an open-ended ({@code "maxAge": null}) last band. When unset, the built-in bands are used.
+         */
+        private String file;
+
+        /**
+         * Whether changes to {@code file} are picked up while the service runs.
+         */
+        private boolean watch = true;
+
+        /**
+         * Quiet period after a file change before it is reloaded, so that a file written in several steps is read once.
+         */
+        private Duration reloadDelay = Duration.ofMillis(250);
+    }
+
+    @Data
+    public static class Execution {
+        /**
+         * Thread that runs a single simulation: {@code inline} on the request thread, {@code virtual} on a new
+         * virtual thread, or {@code platform} on a bounded pool of platform threads.
+         */
+        private ExecutionStrategy strategy = ExecutionStrategy.INLINE;
+
+        /**
+         * Threads in the {@code platform} pool. Defaults to the number of available cores.
+         */
+        private int platformPoolSize = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Queued simulations the {@code platform} pool accepts before running overflow on the caller thread.
+         */
+        private int platformQueueCapacity = 1000;
+    }
+
+    public enum ExecutionStrategy {
+        INLINE, VIRTUAL, PLATFORM
+    }
+
+    @Data
+    public static class Cache {
+        /**
+         * Whether repeated simulations are served from the in-process result cache.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of cached results. Eviction follows Caffeine's W-TinyLFU policy.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Time a result stays cached. Entries never outlive the local day they were created in.
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+
+    @Data
+    public static class Overflow {
+        /**
+         * Whether simulations over the synchronous capacity are queued and answered with a job id instead of 429. Only
+         * requests that send {@code Prefer: respond-async} are queued; every other client keeps the synchronous answer.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Fraction of the {@code loanSimulation} rate-limiter or bulkhead capacity in use above which new simulations
+         * go to the queue. {@code 1.0} only queues requests that were actually rejected.
+         */
+        private double syncCapacityThreshold = 0.8;
+
+        /**
+         * Maximum number of queued and in-flight jobs. Beyond it, requests are rejected with 429.
+         */
+        private int queueCapacity = 10_000;
+
+        /**
+         * Where queued jobs are kept: {@code in-memory}, lost on restart, or {@code file}, journaled under
+         * {@code directory} so that accepted jobs survive a restart.
+         */
+        private OverflowQueue queue = OverflowQueue.IN_MEMORY;
+
+        /**
+         * Directory of the {@code file} queue's journal. Required by that queue.
+         */
+        private String directory;
+
+        /**
+         * Number of workers draining the queue.
+         */
+        private int workers = 2;
+
+        /**
+         * Messages fetched per receive call.
+         */
+        private int receiveBatchSize = 10;
+
+        /**
+         * Time a received job stays hidden from other workers before it is delivered again.
+         */
+        private Duration visibilityTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Delay before a job that was rejected by the rate limiter or bulkhead is retried.
+         */
+        private Duration retryDelay = Duration.ofMillis(200);
+
+        /**
+         * Deliveries after which a job that keeps being rejected is marked as failed.
+         */
+        private int maxReceiveCount = 10;
+
+        /**
+         * Time finished jobs remain available for polling.
+         */
+        private Duration jobRetention = Duration.ofHours(1);
+
+        /**
+         * Maximum number of jobs kept for polling.
+         */
+        private long maxRetainedJobs = 100_000;
+    }
+
+    @Data
+    public static class Limiter {
+        /**
+         * Whether {@code simulateLoan} is guarded by the adaptive concurrency limiter. Enable it together with relaxed
+         * static limits, as the {@code adaptive} profile does.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Concurrency limit used until enough latency samples have been measured.
+         */
+        private int initialLimit = 20;
+
+        private int minLimit = 4;
+
+        private int maxLimit = 1000;
+
+        /**
+         * Minimum number of latency samples averaged before the limit is adjusted. The window also grows with the
+         * limit, so each adjustment sees roughly one sample per permit.
+         */
+        private int windowSamples = 50;
+
+        /**
+         * Factor applied to the limit when the measured queue exceeds its upper bound.
+         */
+        private double backoffRatio = 0.9;
+
+        /**
+         * Number of windows between probes, in which the limit is halved for one window to re-measure the no-load
+         * latency.
+         */
+        private int probeInterval = 100;
+    }
+
+    @Data
+    public static class Batch {
+        /**
+         * Maximum number of requests accepted in a single batch call.
+         */
+        private int maxSize = 500;
+
+        /**
+         * Number of batch items evaluated at the same time. Defaults to the number of available cores.
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    @Data
+    public static class Grid {
+        /**
+         * Maximum number of amount x term cells accepted in a single grid call.
+         */
+        private int maxCells = 10_000;
+
+        /**
+         * Number of terms evaluated at the same time. Defaults to the number of available cores.
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    @Data
+    public static class MonteCarlo {
+        /**
+         * Threads of the dedicated fork/join pool that simulates rate paths. Defaults to the number of available cores.
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Upper bound on paths for one request. Each path holds three doubles of results, so this bounds its memory.
+         */
+        private int maxPaths = 100_000;
+
+        /**
+         * Upper bound on paths x term months for one request, which bounds its CPU time.
+         */
+        private long maxPathMonths = 36_000_000;
+    }
+
+    @Data
+    public static class Stream {
+        /**
+         * Largest accepted NDJSON record, in bytes. Longer lines are skipped and reported as an error line.
+         */
+        private int maxRecordBytes = 8192;
+
+        /**
+         * Number of records simulated under one rate-limiter and bulkhead permit. Each chunk is read, computed, written
+         * and flushed before the next one is read.
+         */
+        private int chunkSize = 256;
+
+        /**
+         * Number of output records written between explicit flushes of a streamed amortization schedule.
+         */
+        private int flushEvery = 256;
+    }
+
+    @Data
+    public static class Metrics {
+        /**
+         * Whether the stages of {@code simulateLoan} are timed and counted.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Fraction of {@code simulateLoan} calls whose stages are timed. Counts by rate and term are always exact.
+         */
+        private double samplingProbability = 0.05;
+
+        /**
+         * Upper bounds, in months, of the term buckets used to tag simulation counts. Longer terms fall in an
+         * open-ended last bucket.
+         */
+        private List<Integer> termBuckets = List.of(12, 60, 120, 240, 360);
+    }
+
+    @Data
+    public static class History {
+        /**
+         * Whether every quote is appended to the simulation history.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Absolute path of the directory holding the history segment files. Required when the history is enabled.
+         */
+        private String directory;
+
+        /**
+         * Records per segment file; each record takes 64 bytes.
+         */
+        private int segmentRecords = 1_048_576;
+
+        /**
+         * Age of its oldest quote at which a segment is sealed even if not full, so retention can remove old quotes.
+         */
+        private Duration rollInterval = Duration.ofDays(1);
+
+        /**
+         * How long quotes are kept. Whole segments are deleted once their newest quote is older.
+         */
+        private Duration retention = Duration.ofDays(365);
+
+        /**
+         * Quotes waiting for the writer. When full, a request waits up to {@code enqueue-timeout} for room.
+         */
+        private int queueCapacity = 65_536;
+
+        /**
+         * Longest time a request waits for room in a full queue. The request then fails with 503 rather than hand out
+         * a quote that is not recorded.
+         */
+        private Duration enqueueTimeout = Duration.ofMillis(100);
+
+        /**
+         * Largest number of quotes the writer appends and publishes at once.
+         */
+        private int batchSize = 1024;
+
+        /**
+         * Interval at which written records are forced to disk.
+         */
+        private Duration forceInterval = Duration.ofSeconds(1);
+
+        /**
+         * Upper bound on the number of entries returned by one history query.
+         */
+        private int maxQueryResults = 10_000;
+    }
+
+    @Data
+    public static class Quota {
+        /**
+         * Whether simulation requests are charged against cluster-wide per-client token buckets.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Where bucket state lives: {@code in-memory} in this replica only, or {@code redis} shared by all replicas.
+         */
+        private QuotaStore store = QuotaStore.IN_MEMORY;
+
+        private String redisUri = "redis://localhost:6379";
+
+        /**
+         * Timeout of a single Redis call.
+         */
+        private Duration redisTimeout = Duration.ofMillis(100);
+
+        /**
+         * Prefix of the Redis keys holding bucket state.
+         */
+        private String keyPrefix = "loan-simulator:quota:";
+
+        /**
+         * Request header naming the client. Set it at the gateway, from the authenticated caller.
+         */
+        private String clientHeader = "X-Client-Id";
+
+        /**
+         * Tier of requests without the header or from a client not listed in {@code clients}. They all share one bucket.
+         */
+        private String defaultTier = "standard";
+
+        /**
+         * Quota of each tier. Every listed client gets its own bucket of its tier's size.
+         */
+        private Map<String, Tier> tiers = new LinkedHashMap<>(Map.of("standard", new Tier()));
+
+        /**
+         * Tier of each known client id.
+         */
+        private Map<String, String> clients = new LinkedHashMap<>();
+
+        /**
+         * Most tokens a replica takes from the store at once and then hands out locally.
+         */
+        private int prefetch = 20;
+
+        /**
+         * Largest share of a tier's {@code limit-for-period} prefetched at once, so that one replica cannot hold most of
+         * a small quota.
+         */
+        private double maxPrefetchShare = 0.01;
+
+        /**
+         * Time after which prefetched tokens that were not used are discarded.
+         */
+        private Duration prefetchTtl = Duration.ofMillis(250);
+
+        /**
+         * Whether requests are let through while the store cannot be reached.
+         */
+        private boolean failOpen = true;
+    }
+
+    @Data
+    public static class Tier {
+        /**
+         * Requests allowed per {@code limit-refresh-period}, which is also the largest burst.
+         */
+        private long limitForPeriod = 1000;
+
+        /**
+         * Time in which an empty bucket refills, continuously.
+         */
+        private Duration limitRefreshPeriod = Duration.ofSeconds(1);
+    }
+
+    public enum OverflowQueue {
+        IN_MEMORY, FILE
+    }
+
+    public enum QuotaStore {
+        IN_MEMORY, REDIS
+    }
+}
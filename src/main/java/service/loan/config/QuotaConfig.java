@@ -0,0 +1,47 @@
+package service.loan.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import service.loan.service.quota.ClientQuotaInterceptor;
+import service.loan.service.quota.ClientQuotaLimiter;
+import service.loan.service.quota.InMemoryTokenBucketStore;
+import service.loan.service.quota.RedisTokenBucketStore;
+import service.loan.service.quota.TokenBucketStore;
+
+@Configuration
+@ConditionalOnProperty(prefix = "loan-simulator.quota", name = "enabled", havingValue = "true")
+public class QuotaConfig {
+
+    @Bean
+    public TokenBucketStore tokenBucketStore(LoanSimulatorProperties properties) {
+        LoanSimulatorProperties.Quota quota = properties.getQuota();
+        return switch (quota.getStore()) {
+            case IN_MEMORY -> new InMemoryTokenBucketStore();
+            case REDIS -> new RedisTokenBucketStore(quota.getRedisUri(), quota.getRedisTimeout(), quota.getKeyPrefix());
+        };
+    }
+
+    @Bean
+    public ClientQuotaLimiter clientQuotaLimiter(LoanSimulatorProperties properties, TokenBucketStore tokenBucketStore) {
+        return new ClientQuotaLimiter(properties.getQuota(), tokenBucketStore);
+    }
+
+    /**
+     * Every simulation endpoint is charged; polling a queued job is not.
+     */
+    @Bean
+    public WebMvcConfigurer clientQuotaWebMvcConfigurer(LoanSimulatorProperties properties, ClientQuotaLimiter clientQuotaLimiter) {
+        ClientQuotaInterceptor interceptor = new ClientQuotaInterceptor(clientQuotaLimiter, properties.getQuota().getClientHeader());
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor)
+                        .addPathPatterns("/api/v1/loan-simulator/simulate/**")
+                        .excludePathPatterns("/api/v1/loan-simulator/simulate/jobs/**");
+            }
+        };
+    }
+}
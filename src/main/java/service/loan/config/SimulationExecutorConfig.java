@@ -0,0 +1,101 @@
+package service.loan.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.StringUtils;
+import service.loan.service.execution.ExecutorSimulationDispatcher;
+import service.loan.service.execution.InlineSimulationDispatcher;
+import service.loan.service.execution.SimulationDispatcher;
+import service.loan.service.limit.AdaptiveConcurrencyLimitAspect;
+import service.loan.service.limit.AdaptiveConcurrencyLimiter;
+import service.loan.service.overflow.FileSimulationJobQueue;
+import service.loan.service.overflow.InMemorySimulationJobQueue;
+import service.loan.service.overflow.SimulationJobQueue;
+import service.loan.service.overflow.SimulationJobStore;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@EnableConfigurationProperties(LoanSimulatorProperties.class)
+public class SimulationExecutorConfig {
+
+    /**
+     * Executor used to fan out multi-item simulations. Every item gets its own virtual thread, so items
+     * waiting on a rate-limiter or bulkhead permit park cheaply instead of holding a platform thread.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService bulkSimulationExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Pool for Monte Carlo rate paths, kept apart from the common pool so a large run cannot starve other users of it.
+     */
+    @Bean(destroyMethod = "close")
+    public ForkJoinPool monteCarloPool(LoanSimulatorProperties properties) {
+        return new ForkJoinPool(properties.getMonteCarlo().getParallelism());
+    }
+
+    @Bean
+    public SimulationDispatcher simulationDispatcher(LoanSimulatorProperties properties) {
+        LoanSimulatorProperties.Execution execution = properties.getExecution();
+        return switch (execution.getStrategy()) {
+            case INLINE -> new InlineSimulationDispatcher();
+            case VIRTUAL -> new ExecutorSimulationDispatcher(Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("simulation-", 0).factory()));
+            case PLATFORM -> new ExecutorSimulationDispatcher(new ThreadPoolExecutor(
+                    execution.getPlatformPoolSize(), execution.getPlatformPoolSize(), 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(execution.getPlatformQueueCapacity()),
+                    new CustomizableThreadFactory("simulation-"),
+                    new ThreadPoolExecutor.CallerRunsPolicy()));
+        };
+    }
+
+    /**
+     * Jobs recovered by the {@code file} queue are put back in the job store, so they can be polled before a worker
+     * picks them up again.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SimulationJobQueue simulationJobQueue(LoanSimulatorProperties properties,
+                                                 SimulationJobStore simulationJobStore,
+                                                 ObjectMapper objectMapper) throws IOException {
+        LoanSimulatorProperties.Overflow overflow = properties.getOverflow();
+        return switch (overflow.getQueue()) {
+            case IN_MEMORY -> new InMemorySimulationJobQueue(overflow.getQueueCapacity(), overflow.getVisibilityTimeout());
+            case FILE -> {
+                if (!StringUtils.hasText(overflow.getDirectory())) {
+                    throw new IllegalStateException("loan-simulator.overflow.directory is required by the file queue");
+                }
+                FileSimulationJobQueue queue = new FileSimulationJobQueue(Path.of(overflow.getDirectory()),
+                        overflow.getQueueCapacity(), overflow.getVisibilityTimeout(), objectMapper);
+                queue.recoveredJobs().forEach(simulationJobStore::save);
+                yield queue;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "loan-simulator.limiter", name = "enabled", havingValue = "true")
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(LoanSimulatorProperties properties) {
+        return new AdaptiveConcurrencyLimiter(properties.getLimiter());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "loan-simulator.limiter", name = "enabled", havingValue = "true")
+    public AdaptiveConcurrencyLimitAspect adaptiveConcurrencyLimitAspect(AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter) {
+        return new AdaptiveConcurrencyLimitAspect(adaptiveConcurrencyLimiter);
+    }
+}
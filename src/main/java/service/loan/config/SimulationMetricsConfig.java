@@ -0,0 +1,57 @@
+package service.loan.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import service.loan.service.metrics.SimulationMetrics;
+import service.loan.service.metrics.SimulationMetricsInterceptor;
+import service.loan.service.metrics.TimedJacksonHttpMessageConverter;
+import service.loan.service.metrics.TimedSimulation;
+
+@Configuration
+public class SimulationMetricsConfig {
+
+    /**
+     * Allocation is only measured on platform request threads; the JVM does not report it for virtual ones.
+     */
+    @Bean
+    public SimulationMetrics simulationMetrics(MeterRegistry meterRegistry, LoanSimulatorProperties properties, Environment environment) {
+        return new SimulationMetrics(meterRegistry, properties.getMetrics(), !Threading.VIRTUAL.isActive(environment));
+    }
+
+    /**
+     * Ordered ahead of every Resilience4j aspect, so the interceptor wraps all of them. Static and lazy about its
+     * metrics so that creating it does not pull in the meter registry before Spring Boot has configured it.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(prefix = "loan-simulator.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public static Advisor simulationMetricsAdvisor(ObjectProvider<SimulationMetrics> simulationMetrics) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(TimedSimulation.class),
+                new SimulationMetricsInterceptor(simulationMetrics::getObject));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    /**
+     * Replaces Spring Boot's JSON converter, which backs off when one is defined, with one that also times the
+     * serialization of simulation responses.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper, SimulationMetrics simulationMetrics) {
+        return new TimedJacksonHttpMessageConverter(objectMapper, simulationMetrics);
+    }
+}
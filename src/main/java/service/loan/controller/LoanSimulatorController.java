@@ -1,25 +1,156 @@
 package service.loan.controller;
 
+import service.loan.exception.ConcurrencyLimitExceededException;
+import service.loan.model.LoanSimulationBatchItemResponse;
+import service.loan.model.LoanSimulationGridRequest;
+import service.loan.model.LoanSimulationGridResponse;
 import service.loan.model.LoanSimulationRequest;
-import service.loan.model.LoanSimulationResponse;
+import service.loan.model.LoanSolutionResponse;
+import service.loan.model.MaxLoanAmountRequest;
+import service.loan.model.MinPaymentTermRequest;
+import service.loan.model.MonteCarloSimulationRequest;
+import service.loan.model.MonteCarloSimulationResponse;
+import service.loan.model.SimulationJob;
+import service.loan.service.AmortizationScheduleService;
+import service.loan.service.LoanInverseSolverService;
+import service.loan.service.LoanSimulationBatchService;
+import service.loan.service.LoanSimulationGridService;
+import service.loan.service.LoanSimulationStreamService;
 import service.loan.service.LoanSimulatorService;
+import service.loan.service.MonteCarloSimulationService;
+import service.loan.service.SimulationJobService;
+import service.loan.validation.LoanSimulationRequestValidator;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+
 @RestController
 @RequestMapping("/api/v1/loan-simulator")
 @RequiredArgsConstructor
 public class LoanSimulatorController {
+    private static final String PREFER = "Prefer";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+    private static final String RESPOND_ASYNC = "respond-async";
 
     private final LoanSimulatorService loanSimulatorService;
+    private final LoanSimulationBatchService loanSimulationBatchService;
+    private final LoanSimulationStreamService loanSimulationStreamService;
+    private final SimulationJobService simulationJobService;
+    private final AmortizationScheduleService amortizationScheduleService;
+    private final LoanSimulationGridService loanSimulationGridService;
+    private final LoanInverseSolverService loanInverseSolverService;
+    private final MonteCarloSimulationService monteCarloSimulationService;
+    private final LoanSimulationRequestValidator requestValidator;
 
+    /**
+     * Answers synchronously while there is capacity. With overflow enabled, a request that sends
+     * {@code Prefer: respond-async} and arrives above the sync capacity threshold, or is refused a permit, is queued
+     * and answered with 202 and a job to poll.
+     *
+     * <p>The body is checked by {@link LoanSimulationRequestValidator} rather than {@code @Valid}. It applies the same
+     * constraints with the same messages, but an invalid request is answered with a prebuilt 400 instead of a
+     * {@code MethodArgumentNotValidException}, which costs more than the simulation it rejects.
+     */
     @PostMapping("/simulate")
-    public ResponseEntity<LoanSimulationResponse> simulateLoan(@Valid @RequestBody LoanSimulationRequest request) {
-        return ResponseEntity.ok(loanSimulatorService.simulateLoan(request));
+    public ResponseEntity<?> simulateLoan(@RequestBody LoanSimulationRequest request,
+                                          @RequestHeader(name = PREFER, required = false) List<String> preferences) {
+        ResponseEntity<ErrorResponse> rejection = requestValidator.reject(request);
+        if (rejection != null) {
+            return rejection;
+        }
+        boolean overflow = simulationJobService.isOverflowEnabled() && respondAsync(preferences);
+        if (overflow && simulationJobService.shouldOverflow()) {
+            return this.accepted(simulationJobService.submit(request));
+        }
+        try {
+            return ResponseEntity.ok(loanSimulatorService.simulateLoan(request));
+        } catch (RequestNotPermitted | BulkheadFullException | ConcurrencyLimitExceededException ex) {
+            if (!overflow) {
+                throw ex;
+            }
+            return this.accepted(simulationJobService.submit(request));
+        }
+    }
+
+    @GetMapping("/simulate/jobs/{jobId}")
+    public ResponseEntity<SimulationJob> getSimulationJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(simulationJobService.getJob(jobId));
+    }
+
+    @PostMapping("/simulate/batch")
+    public ResponseEntity<List<LoanSimulationBatchItemResponse>> simulateBatch(@RequestBody List<LoanSimulationRequest> requests) {
+        return ResponseEntity.ok(loanSimulationBatchService.simulateBatch(requests));
+    }
+
+    @PostMapping(value = "/simulate/stream", consumes = APPLICATION_NDJSON_VALUE, produces = APPLICATION_NDJSON_VALUE)
+    public void simulateStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        loanSimulationStreamService.simulateStream(request.getInputStream(), response.getOutputStream());
+    }
+
+    @PostMapping("/simulate/grid")
+    public ResponseEntity<LoanSimulationGridResponse> simulateGrid(@Valid @RequestBody LoanSimulationGridRequest request) {
+        return ResponseEntity.ok(loanSimulationGridService.simulateGrid(request));
+    }
+
+    @PostMapping("/simulate/max-amount")
+    public ResponseEntity<LoanSolutionResponse> solveMaxLoanAmount(@Valid @RequestBody MaxLoanAmountRequest request) {
+        return ResponseEntity.ok(loanInverseSolverService.solveMaxLoanAmount(request));
+    }
+
+    @PostMapping("/simulate/min-term")
+    public ResponseEntity<LoanSolutionResponse> solveMinPaymentTerm(@Valid @RequestBody MinPaymentTermRequest request) {
+        return ResponseEntity.ok(loanInverseSolverService.solveMinPaymentTerm(request));
+    }
+
+    @PostMapping("/simulate/monte-carlo")
+    public ResponseEntity<MonteCarloSimulationResponse> simulateMonteCarlo(@Valid @RequestBody MonteCarloSimulationRequest request) {
+        return ResponseEntity.ok(monteCarloSimulationService.simulate(request));
+    }
+
+    @PostMapping(value = "/simulate/schedule", produces = APPLICATION_NDJSON_VALUE)
+    public void simulateSchedule(@Valid @RequestBody LoanSimulationRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        amortizationScheduleService.writeSchedule(request, response.getOutputStream());
+    }
+
+    private ResponseEntity<SimulationJob> accepted(SimulationJob job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/loan-simulator/simulate/jobs/" + job.getJobId()))
+                .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+                .body(job);
+    }
+
+    /**
+     * Whether the {@code Prefer} header (RFC 7240) asks for {@code respond-async}. Spring splits the header on commas.
+     */
+    private static boolean respondAsync(List<String> preferences) {
+        if (preferences == null) {
+            return false;
+        }
+        for (String preference : preferences) {
+            if (RESPOND_ASYNC.equalsIgnoreCase(preference.strip())) {
+                return true;
+            }
+        }
+        return false;
     }
-} 
\ No newline at end of file
+}
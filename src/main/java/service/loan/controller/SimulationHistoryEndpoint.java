@@ -0,0 +1,39 @@
+package service.loan.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.web.annotation.RestControllerEndpoint;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import service.loan.model.SimulationHistoryEntry;
+import service.loan.service.SimulationHistoryService;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The simulation history as the {@code history} actuator endpoint. Recorded quotes include customers' birth dates, so
+ * they are served with the operational endpoints rather than beside the public API: only once {@code history} is
+ * listed in {@code management.endpoints.web.exposure.include}, and off the public port when
+ * {@code management.server.port} is set.
+ * <p>
+ * A controller endpoint rather than an {@code @Endpoint}, because optional operation parameters there need Spring's
+ * JSR-305-annotated {@code @Nullable}. Invalid filters are answered 400 by {@code GlobalExceptionHandler}.
+ */
+@Component
+@RestControllerEndpoint(id = "history")
+@RequiredArgsConstructor
+public class SimulationHistoryEndpoint {
+
+    private final SimulationHistoryService simulationHistoryService;
+
+    @GetMapping
+    public List<SimulationHistoryEntry> history(@RequestParam(required = false) Instant from,
+                                                @RequestParam(required = false) Instant to,
+                                                @RequestParam(required = false) BigDecimal minLoanAmount,
+                                                @RequestParam(required = false) BigDecimal maxLoanAmount,
+                                                @RequestParam(required = false) Integer limit) {
+        return simulationHistoryService.findHistory(from, to, minLoanAmount, maxLoanAmount, limit);
+    }
+}
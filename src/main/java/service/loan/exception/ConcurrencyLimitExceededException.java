@@ -0,0 +1,7 @@
+package service.loan.exception;
+
+public class ConcurrencyLimitExceededException extends RuntimeException {
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
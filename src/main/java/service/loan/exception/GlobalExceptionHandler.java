@@ -1,5 +1,6 @@
 package service.loan.exception;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
 import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
@@ -10,9 +11,34 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-@RestControllerAdvice
+/**
+ * Error responses of the application's own controllers. Actuator endpoints keep their own error handling.
+ */
+@RestControllerAdvice(basePackages = "service.loan")
 public class GlobalExceptionHandler {
+    private static final int MAX_CACHED_VALIDATION_RESPONSES = 1024;
+
+    private final Map<String, ResponseEntity<ErrorResponse>> validationResponses = new ConcurrentHashMap<>();
+
+    /**
+     * Validation failures come from a small set of messages, so their responses are built once per message and reused;
+     * nothing downstream modifies them.
+     */
+    @ExceptionHandler({LoanValidationException.class})
+    public ResponseEntity<ErrorResponse> handleLoanValidationException(LoanValidationException ex) {
+        ResponseEntity<ErrorResponse> response = validationResponses.get(ex.getMessage());
+        if (response == null) {
+            response = this.createErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+            if (validationResponses.size() < MAX_CACHED_VALIDATION_RESPONSES) {
+                validationResponses.putIfAbsent(ex.getMessage(), response);
+            }
+        }
+        return response;
+    }
+
     @ExceptionHandler({LoanSimulationException.class})
     public ResponseEntity<ErrorResponse> handleLoanSimulationException(LoanSimulationException ex) {
         return this.createErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
@@ -41,11 +67,72 @@ public class GlobalExceptionHandler {
         return this.createErrorResponse(HttpStatus.TOO_MANY_REQUESTS, "Too many requests", ex);
     }
 
+    @ExceptionHandler({BulkheadFullException.class})
+    public ResponseEntity<ErrorResponse> handleBulkheadFull(BulkheadFullException ex) {
+        return this.createErrorResponse(HttpStatus.TOO_MANY_REQUESTS, "Too many requests", ex);
+    }
+
+    @ExceptionHandler({ConcurrencyLimitExceededException.class})
+    public ResponseEntity<ErrorResponse> handleConcurrencyLimitExceeded(ConcurrencyLimitExceededException ex) {
+        return this.createErrorResponse(HttpStatus.TOO_MANY_REQUESTS, "Too many requests", ex);
+    }
+
+    @ExceptionHandler({QuotaExceededException.class})
+    public ResponseEntity<ErrorResponse> handleQuotaExceeded(QuotaExceededException ex) {
+        return this.createErrorResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), ex);
+    }
+
+    @ExceptionHandler({SimulationQueueFullException.class})
+    public ResponseEntity<ErrorResponse> handleSimulationQueueFull(SimulationQueueFullException ex) {
+        return this.createErrorResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), ex);
+    }
+
+    @ExceptionHandler({SimulationHistoryUnavailableException.class})
+    public ResponseEntity<ErrorResponse> handleSimulationHistoryUnavailable(SimulationHistoryUnavailableException ex) {
+        return this.createErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), ex);
+    }
+
+    @ExceptionHandler({SimulationJobNotFoundException.class})
+    public ResponseEntity<ErrorResponse> handleSimulationJobNotFound(SimulationJobNotFoundException ex) {
+        return this.createErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), ex);
+    }
+
     @ExceptionHandler({Exception.class})
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         return this.createErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred", ex);
     }
 
+    /**
+     * Maps an exception to the same response the matching {@code @ExceptionHandler} would produce. Used by
+     * multi-item endpoints that report failures per item instead of failing the whole call.
+     */
+    public ResponseEntity<ErrorResponse> resolve(Exception ex) {
+        if (ex instanceof LoanValidationException loanValidationException) {
+            return this.handleLoanValidationException(loanValidationException);
+        } else if (ex instanceof LoanSimulationException loanSimulationException) {
+            return this.handleLoanSimulationException(loanSimulationException);
+        } else if (ex instanceof MethodArgumentNotValidException methodArgumentNotValidException) {
+            return this.handleValidationException(methodArgumentNotValidException);
+        } else if (ex instanceof ConstraintViolationException constraintViolationException) {
+            return this.handleConstraintViolationException(constraintViolationException);
+        } else if (ex instanceof RequestNotPermitted requestNotPermitted) {
+            return this.handleRequestNotPermitted(requestNotPermitted);
+        } else if (ex instanceof BulkheadFullException bulkheadFullException) {
+            return this.handleBulkheadFull(bulkheadFullException);
+        } else if (ex instanceof ConcurrencyLimitExceededException concurrencyLimitExceededException) {
+            return this.handleConcurrencyLimitExceeded(concurrencyLimitExceededException);
+        } else if (ex instanceof QuotaExceededException quotaExceededException) {
+            return this.handleQuotaExceeded(quotaExceededException);
+        } else if (ex instanceof SimulationQueueFullException simulationQueueFullException) {
+            return this.handleSimulationQueueFull(simulationQueueFullException);
+        } else if (ex instanceof SimulationHistoryUnavailableException simulationHistoryUnavailableException) {
+            return this.handleSimulationHistoryUnavailable(simulationHistoryUnavailableException);
+        } else if (ex instanceof SimulationJobNotFoundException simulationJobNotFoundException) {
+            return this.handleSimulationJobNotFound(simulationJobNotFoundException);
+        }
+        return this.handleGenericException(ex);
+    }
+
     private ResponseEntity<ErrorResponse> createErrorResponse(HttpStatus httpStatus, String message, Exception ex) {
         ErrorResponse errorResponse = ErrorResponse.create(ex, httpStatus, message);
         return new ResponseEntity<>(errorResponse, httpStatus);
@@ -8,4 +8,8 @@ public class LoanSimulationException extends RuntimeException {
     public LoanSimulationException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    protected LoanSimulationException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
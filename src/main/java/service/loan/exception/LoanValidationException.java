@@ -0,0 +1,13 @@
+package service.loan.exception;
+
+/**
+ * A request rejected for deterministic reasons: invalid fields or a business rule. These are frequent and say nothing
+ * about the health of the service, so they carry no stack trace and are not retried or counted by the circuit breaker.
+ * Having no stack trace or suppressed exceptions, an instance can be kept and rethrown for every request that fails
+ * the same way.
+ */
+public class LoanValidationException extends LoanSimulationException {
+    public LoanValidationException(String message) {
+        super(message, false);
+    }
+}
@@ -0,0 +1,11 @@
+package service.loan.exception;
+
+/**
+ * A client over its request quota. Thrown as a shared instance without a stack trace, since it says nothing about
+ * where it was thrown and may be thrown for every request of a misbehaving client.
+ */
+public class QuotaExceededException extends RuntimeException {
+    public QuotaExceededException(String message) {
+        super(message, null, false, false);
+    }
+}
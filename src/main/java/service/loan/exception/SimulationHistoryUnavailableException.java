@@ -0,0 +1,7 @@
+package service.loan.exception;
+
+public class SimulationHistoryUnavailableException extends RuntimeException {
+    public SimulationHistoryUnavailableException(String message) {
+        super(message);
+    }
+}
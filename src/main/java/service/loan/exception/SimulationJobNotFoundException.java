@@ -0,0 +1,7 @@
+package service.loan.exception;
+
+public class SimulationJobNotFoundException extends RuntimeException {
+    public SimulationJobNotFoundException(String jobId) {
+        super("Simulation job " + jobId + " not found");
+    }
+}
@@ -0,0 +1,7 @@
+package service.loan.exception;
+
+public class SimulationQueueFullException extends RuntimeException {
+    public SimulationQueueFullException(String message) {
+        super(message);
+    }
+}
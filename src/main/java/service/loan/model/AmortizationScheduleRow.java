@@ -0,0 +1,16 @@
+package service.loan.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+public class AmortizationScheduleRow {
+    private int month;
+    private BigDecimal payment;
+    private BigDecimal principal;
+    private BigDecimal interest;
+    private BigDecimal balance;
+}
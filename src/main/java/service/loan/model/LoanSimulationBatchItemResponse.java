@@ -0,0 +1,15 @@
+package service.loan.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LoanSimulationBatchItemResponse {
+    private int index;
+    private int status;
+    private LoanSimulationResponse result;
+    private String error;
+}
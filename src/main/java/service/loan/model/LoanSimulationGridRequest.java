@@ -0,0 +1,40 @@
+package service.loan.model;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class LoanSimulationGridRequest {
+    @NotNull(message = "Birth date is required")
+    private LocalDate birthDate;
+
+    @NotNull(message = "Loan amount range start is required")
+    @Positive(message = "Loan amount range start must be positive")
+    private BigDecimal loanAmountFrom;
+
+    @NotNull(message = "Loan amount range end is required")
+    @Positive(message = "Loan amount range end must be positive")
+    private BigDecimal loanAmountTo;
+
+    @NotNull(message = "Loan amount step is required")
+    @Positive(message = "Loan amount step must be positive")
+    private BigDecimal loanAmountStep;
+
+    @NotNull(message = "Payment term range start is required")
+    @Positive(message = "Payment term range start must be positive")
+    private Integer paymentTermFrom;
+
+    @NotNull(message = "Payment term range end is required")
+    @Positive(message = "Payment term range end must be positive")
+    private Integer paymentTermTo;
+
+    @NotNull(message = "Payment term step is required")
+    @Positive(message = "Payment term step must be positive")
+    private Integer paymentTermStep;
+}
@@ -0,0 +1,23 @@
+package service.loan.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Payment matrix for one customer. Rows follow {@code paymentTermsInMonths} and columns follow {@code loanAmounts}, so
+ * {@code monthlyPayment.get(t).get(a)} is the simulation of {@code loanAmounts.get(a)} over
+ * {@code paymentTermsInMonths.get(t)}.
+ */
+@Data
+@Builder
+public class LoanSimulationGridResponse {
+    private BigDecimal annualInterestRate;
+    private List<BigDecimal> loanAmounts;
+    private List<Integer> paymentTermsInMonths;
+    private List<List<BigDecimal>> monthlyPayment;
+    private List<List<BigDecimal>> totalAmount;
+    private List<List<BigDecimal>> totalInterest;
+}
@@ -0,0 +1,17 @@
+package service.loan.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Answer of an inverse solver: the loan amount and term it found, and the simulation of that loan.
+ */
+@Data
+@Builder
+public class LoanSolutionResponse {
+    private BigDecimal loanAmount;
+    private int paymentTermInMonths;
+    private LoanSimulationResponse simulation;
+}
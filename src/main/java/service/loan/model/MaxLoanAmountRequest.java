@@ -0,0 +1,24 @@
+package service.loan.model;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class MaxLoanAmountRequest {
+    @NotNull(message = "Monthly payment is required")
+    @Positive(message = "Monthly payment must be positive")
+    private BigDecimal monthlyPayment;
+
+    @NotNull(message = "Birth date is required")
+    private LocalDate birthDate;
+
+    @NotNull(message = "Payment term is required")
+    @Positive(message = "Payment term must be positive")
+    private Integer paymentTermInMonths;
+}
@@ -0,0 +1,40 @@
+package service.loan.model;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Vasicek short-rate model, stepped monthly: {@code r += meanReversion * (longTermRate - r) / 12 + volatility *
+ * sqrt(1/12) * Z}. Paths start at the customer's band rate, which is also the default long-term rate. Rates are
+ * floored at zero. A mean reversion above 12 would overshoot the long-term rate every month, so it is capped there;
+ * a long-term rate must lie within the range of the rate bands.
+ */
+@Data
+@Builder
+public class MeanRevertingRateModel {
+    @NotNull(message = "Seed is required")
+    private Long seed;
+
+    @NotNull(message = "Path count is required")
+    @Positive(message = "Path count must be positive")
+    private Integer paths;
+
+    @NotNull(message = "Volatility is required")
+    @PositiveOrZero(message = "Volatility must not be negative")
+    @DecimalMax(value = "1", message = "Volatility must not exceed 1")
+    private BigDecimal volatility;
+
+    @NotNull(message = "Mean reversion is required")
+    @PositiveOrZero(message = "Mean reversion must not be negative")
+    @DecimalMax(value = "12", message = "Mean reversion must not exceed 12")
+    private BigDecimal meanReversion;
+
+    @PositiveOrZero(message = "Long-term rate must not be negative")
+    private BigDecimal longTermRate;
+}
@@ -0,0 +1,24 @@
+package service.loan.model;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class MinPaymentTermRequest {
+    @NotNull(message = "Monthly payment is required")
+    @Positive(message = "Monthly payment must be positive")
+    private BigDecimal monthlyPayment;
+
+    @NotNull(message = "Loan amount is required")
+    @Positive(message = "Loan amount must be positive")
+    private BigDecimal loanAmount;
+
+    @NotNull(message = "Birth date is required")
+    private LocalDate birthDate;
+}
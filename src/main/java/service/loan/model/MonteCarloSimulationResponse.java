@@ -0,0 +1,22 @@
+package service.loan.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Distribution of a floating-rate loan over the simulated rate paths. {@code monthlyPayment} is the average payment of
+ * each path and {@code peakMonthlyPayment} its highest one.
+ */
+@Data
+@Builder
+public class MonteCarloSimulationResponse {
+    private int paths;
+    private long seed;
+    private BigDecimal initialAnnualInterestRate;
+    private Percentiles monthlyPayment;
+    private Percentiles peakMonthlyPayment;
+    private Percentiles totalInterest;
+    private BigDecimal expectedTotalInterest;
+}
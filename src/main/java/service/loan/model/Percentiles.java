@@ -0,0 +1,14 @@
+package service.loan.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+public class Percentiles {
+    private BigDecimal p5;
+    private BigDecimal p50;
+    private BigDecimal p95;
+}
@@ -0,0 +1,17 @@
+package service.loan.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+public class RateBand {
+    /**
+     * Oldest age, in whole years, covered by this band. {@code null} marks the open-ended last band.
+     */
+    private Integer maxAge;
+
+    private BigDecimal annualRate;
+}
@@ -0,0 +1,21 @@
+package service.loan.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class SimulationHistoryEntry {
+    private Instant quotedAt;
+    private BigDecimal loanAmount;
+    private LocalDate birthDate;
+    private int paymentTermInMonths;
+    private BigDecimal annualInterestRate;
+    private BigDecimal monthlyPayment;
+    private BigDecimal totalAmount;
+    private BigDecimal totalInterest;
+}
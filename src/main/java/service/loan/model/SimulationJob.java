@@ -0,0 +1,24 @@
+package service.loan.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SimulationJob {
+    private String jobId;
+    private SimulationJobStatus status;
+    private LoanSimulationResponse result;
+    private Integer errorStatus;
+    private String error;
+    private Instant submittedAt;
+    private Instant completedAt;
+
+    @JsonIgnore
+    private LoanSimulationRequest request;
+}
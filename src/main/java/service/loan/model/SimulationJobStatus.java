@@ -0,0 +1,5 @@
+package service.loan.model;
+
+public enum SimulationJobStatus {
+    PENDING, COMPLETED, FAILED
+}
@@ -0,0 +1,23 @@
+package service.loan.service;
+
+import service.loan.model.AmortizationScheduleRow;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.LoanSimulationResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+public interface AmortizationScheduleService {
+    /**
+     * Lazily generates the month-by-month schedule for {@code simulation}. Payments, principal and interest sum exactly
+     * to the simulation's {@code totalAmount}, the loan amount and {@code totalAmount - loanAmount}.
+     */
+    Stream<AmortizationScheduleRow> schedule(LoanSimulationRequest request, LoanSimulationResponse simulation, BigDecimal monthlyInterestRate);
+
+    /**
+     * Simulates {@code request} and writes its schedule to {@code output} as newline-delimited rows.
+     */
+    void writeSchedule(LoanSimulationRequest request, OutputStream output) throws IOException;
+}
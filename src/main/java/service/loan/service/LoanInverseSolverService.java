@@ -0,0 +1,18 @@
+package service.loan.service;
+
+import service.loan.model.LoanSolutionResponse;
+import service.loan.model.MaxLoanAmountRequest;
+import service.loan.model.MinPaymentTermRequest;
+
+public interface LoanInverseSolverService {
+    /**
+     * Largest loan amount, in cents, whose simulated monthly payment over the requested term does not exceed the
+     * target payment.
+     */
+    LoanSolutionResponse solveMaxLoanAmount(MaxLoanAmountRequest request);
+
+    /**
+     * Shortest term whose simulated monthly payment for the requested amount does not exceed the target payment.
+     */
+    LoanSolutionResponse solveMinPaymentTerm(MinPaymentTermRequest request);
+}
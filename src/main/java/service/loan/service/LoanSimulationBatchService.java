@@ -0,0 +1,10 @@
+package service.loan.service;
+
+import service.loan.model.LoanSimulationBatchItemResponse;
+import service.loan.model.LoanSimulationRequest;
+
+import java.util.List;
+
+public interface LoanSimulationBatchService {
+    List<LoanSimulationBatchItemResponse> simulateBatch(List<LoanSimulationRequest> requests);
+}
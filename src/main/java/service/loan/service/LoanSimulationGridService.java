@@ -0,0 +1,8 @@
+package service.loan.service;
+
+import service.loan.model.LoanSimulationGridRequest;
+import service.loan.model.LoanSimulationGridResponse;
+
+public interface LoanSimulationGridService {
+    LoanSimulationGridResponse simulateGrid(LoanSimulationGridRequest request);
+}
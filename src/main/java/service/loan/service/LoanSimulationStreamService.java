@@ -0,0 +1,13 @@
+package service.loan.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface LoanSimulationStreamService {
+    /**
+     * Reads newline-delimited {@code LoanSimulationRequest} records from {@code input} and writes one
+     * newline-delimited result record per input record to {@code output}, in input order.
+     */
+    void simulateStream(InputStream input, OutputStream output) throws IOException;
+}
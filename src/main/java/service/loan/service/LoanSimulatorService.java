@@ -9,6 +9,21 @@ import java.time.LocalDate;
 public interface LoanSimulatorService {
     LoanSimulationResponse simulateLoan(LoanSimulationRequest request);
 
+    /**
+     * {@link #simulateLoan}, except that an answer given without entering the resilience aspects, such as a result
+     * cache hit, still takes a {@code loanSimulation} rate-limiter permit. For callers that must count every request
+     * against the limit, such as batch items.
+     */
+    default LoanSimulationResponse simulateLoanMetered(LoanSimulationRequest request) {
+        return this.simulateLoan(request);
+    }
+
+    /**
+     * Runs the same validation and math as {@link #simulateLoan} synchronously on the calling thread, without the
+     * resilience aspects. Meant for bulk jobs that are throttled by their own transport.
+     */
+    LoanSimulationResponse computeSimulation(LoanSimulationRequest request);
+
     void validateRequest(LoanSimulationRequest request);
 
     BigDecimal calculateAnnualInterestRate(LocalDate birthDate);
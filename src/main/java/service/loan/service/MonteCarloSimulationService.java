@@ -0,0 +1,12 @@
+package service.loan.service;
+
+import service.loan.model.MonteCarloSimulationRequest;
+import service.loan.model.MonteCarloSimulationResponse;
+
+public interface MonteCarloSimulationService {
+    /**
+     * Prices a floating-rate loan over randomly generated rate paths. The result depends only on the request, including
+     * its seed.
+     */
+    MonteCarloSimulationResponse simulate(MonteCarloSimulationRequest request);
+}
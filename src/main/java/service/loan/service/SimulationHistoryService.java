@@ -0,0 +1,14 @@
+package service.loan.service;
+
+import service.loan.model.SimulationHistoryEntry;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+public interface SimulationHistoryService {
+    /**
+     * Quotes within the time and loan amount ranges, oldest first. Every bound is optional and inclusive.
+     */
+    List<SimulationHistoryEntry> findHistory(Instant from, Instant to, BigDecimal minLoanAmount, BigDecimal maxLoanAmount, Integer limit);
+}
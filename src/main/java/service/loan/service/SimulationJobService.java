@@ -0,0 +1,17 @@
+package service.loan.service;
+
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.SimulationJob;
+
+public interface SimulationJobService {
+    boolean isOverflowEnabled();
+
+    /**
+     * Whether a new simulation should be queued instead of run synchronously, given the current load.
+     */
+    boolean shouldOverflow();
+
+    SimulationJob submit(LoanSimulationRequest request);
+
+    SimulationJob getJob(String jobId);
+}
@@ -0,0 +1,144 @@
+package service.loan.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.LoanSimulationResponse;
+import service.loan.service.LoanSimulatorService;
+import service.loan.service.history.SimulationHistoryRecorder;
+import service.loan.service.impl.LoanSimulatorServiceImpl;
+import service.loan.service.rate.RateBandsChangedEvent;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * Result cache in front of {@link LoanSimulatorServiceImpl#simulateLoan}. Hits are answered without entering the
+ * resilience aspects; misses go through them exactly as before. Only successful results are cached.
+ * <p>
+ * Because this bean is the primary {@link LoanSimulatorService}, a hit takes no rate-limiter, bulkhead or
+ * adaptive-limit permit. The limits therefore bound computed simulations, not requests: a client repeating cached
+ * quotes is throttled only by the per-client quota. This is deliberate, because a hit costs about as much as a
+ * rejection would. Batch items go through {@link #simulateLoanMetered}, where a hit still takes a rate-limiter permit,
+ * so a batch of repeated quotes cannot get around the per-item limit. Disable the cache
+ * ({@code loan-simulator.cache.enabled=false}) to meter every request.
+ * <p>
+ * Entries expire after the configured TTL or at the next local midnight, whichever comes first, and the whole cache is
+ * dropped when the rate bands change. Hit, miss and eviction counts are published under the
+ * {@code loanSimulationResults} cache name.
+ * <p>
+ * Hits are still quotes, so they are recorded in the simulation history like computed results.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "loan-simulator.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingLoanSimulatorService implements LoanSimulatorService {
+    private static final String CACHE_NAME = "loanSimulationResults";
+    private static final String INSTANCE_NAME = "loanSimulation";
+
+    private final LoanSimulatorServiceImpl delegate;
+    private final Cache<SimulationCacheKey, LoanSimulationResponse> cache;
+    private final SimulationHistoryRecorder simulationHistoryRecorder;
+    private final RateLimiter rateLimiter;
+
+    public CachingLoanSimulatorService(LoanSimulatorServiceImpl delegate, LoanSimulatorProperties properties, MeterRegistry meterRegistry,
+                                       SimulationHistoryRecorder simulationHistoryRecorder, RateLimiterRegistry rateLimiterRegistry) {
+        this.delegate = delegate;
+        this.simulationHistoryRecorder = simulationHistoryRecorder;
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(INSTANCE_NAME);
+        LoanSimulatorProperties.Cache cacheProperties = properties.getCache();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaximumSize())
+                .expireAfter(new ExpireAtTtlOrMidnight(cacheProperties.getTtl(), ZoneId.systemDefault()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public LoanSimulationResponse simulateLoan(LoanSimulationRequest request) {
+        return this.simulate(request, false);
+    }
+
+    @Override
+    public LoanSimulationResponse simulateLoanMetered(LoanSimulationRequest request) {
+        return this.simulate(request, true);
+    }
+
+    private LoanSimulationResponse simulate(LoanSimulationRequest request, boolean meterHits) {
+        delegate.validateRequest(request);
+        BigDecimal annualInterestRate = delegate.calculateAnnualInterestRate(request.getBirthDate());
+        SimulationCacheKey key = SimulationCacheKey.of(request.getLoanAmount(), annualInterestRate, request.getPaymentTermInMonths());
+        LoanSimulationResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            if (meterHits) {
+                RateLimiter.waitForPermission(rateLimiter);
+            }
+            simulationHistoryRecorder.record(request, cached);
+            return cached;
+        }
+        // Not computed inside the cache: a miss may wait for a rate-limiter or bulkhead permit, and that wait must
+        // not hold a Caffeine bin lock.
+        LoanSimulationResponse response = delegate.simulateLoan(request, annualInterestRate);
+        cache.put(key, response);
+        return response;
+    }
+
+    @Override
+    public LoanSimulationResponse computeSimulation(LoanSimulationRequest request) {
+        return delegate.computeSimulation(request);
+    }
+
+    @Override
+    public void validateRequest(LoanSimulationRequest request) {
+        delegate.validateRequest(request);
+    }
+
+    @Override
+    public BigDecimal calculateAnnualInterestRate(LocalDate birthDate) {
+        return delegate.calculateAnnualInterestRate(birthDate);
+    }
+
+    @Override
+    public BigDecimal calculateMonthlyPayment(BigDecimal loanAmount, BigDecimal monthlyInterestRate, int termInMonths) {
+        return delegate.calculateMonthlyPayment(loanAmount, monthlyInterestRate, termInMonths);
+    }
+
+    @EventListener
+    public void onRateBandsChanged(RateBandsChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private record ExpireAtTtlOrMidnight(Duration ttl, ZoneId zone) implements Expiry<SimulationCacheKey, LoanSimulationResponse> {
+
+        @Override
+        public long expireAfterCreate(SimulationCacheKey key, LoanSimulationResponse value, long currentTime) {
+            ZonedDateTime now = ZonedDateTime.now(zone);
+            Duration untilMidnight = Duration.between(now, now.toLocalDate().plusDays(1).atStartOfDay(zone));
+            return Math.min(ttl.toNanos(), untilMidnight.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(SimulationCacheKey key, LoanSimulationResponse value, long currentTime, long currentDuration) {
+            return this.expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(SimulationCacheKey key, LoanSimulationResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
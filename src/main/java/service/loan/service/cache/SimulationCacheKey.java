@@ -0,0 +1,15 @@
+package service.loan.service.cache;
+
+import java.math.BigDecimal;
+
+/**
+ * Normalized identity of a simulation. The result depends on the birth date only through the annual rate of its age
+ * band, and on the loan amount only through its numeric value, so {@code 10000} and {@code 10000.00} for two customers
+ * in the same band share an entry.
+ */
+record SimulationCacheKey(BigDecimal loanAmount, BigDecimal annualInterestRate, int paymentTermInMonths) {
+
+    static SimulationCacheKey of(BigDecimal loanAmount, BigDecimal annualInterestRate, int paymentTermInMonths) {
+        return new SimulationCacheKey(loanAmount.stripTrailingZeros(), annualInterestRate.stripTrailingZeros(), paymentTermInMonths);
+    }
+}
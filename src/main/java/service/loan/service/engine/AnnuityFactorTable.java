@@ -0,0 +1,81 @@
+package service.loan.service.engine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.model.RateBand;
+import service.loan.service.rate.InterestRateBands;
+import service.loan.service.rate.RateBandsChangedEvent;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precomputed annuity factors for every rate band and every term up to the configured maximum. Factors are kept as
+ * unscaled {@code long}s at {@link CalculationEngine#SCALE} in one flat array indexed by
+ * {@code rateIndex * maxTerm + (term - 1)}, so a lookup is a map probe on the monthly rate plus an array read.
+ * <p>
+ * The table is built by the configured {@link CalculationEngine}, so a hit returns exactly what the engine would.
+ * Rates or terms outside the table are delegated to the engine. A new table is built and swapped in whenever the rate
+ * bands change.
+ */
+@Component
+public class AnnuityFactorTable {
+    private static final Logger log = LoggerFactory.getLogger(AnnuityFactorTable.class);
+    private static final BigDecimal MONTHS_PER_YEAR = BigDecimal.valueOf(12L);
+
+    private final CalculationEngine calculationEngine;
+    private final int maxTermInMonths;
+    private volatile Snapshot snapshot;
+
+    public AnnuityFactorTable(CalculationEngine calculationEngine, InterestRateBands interestRateBands, LoanSimulatorProperties properties) {
+        this.calculationEngine = calculationEngine;
+        this.maxTermInMonths = Math.max(0, properties.getCalculation().getMaxTermInMonths());
+        this.snapshot = this.build(interestRateBands.getBands());
+    }
+
+    public BigDecimal annuityFactor(BigDecimal monthlyInterestRate, int termInMonths) {
+        Snapshot current = this.snapshot;
+        Integer rateIndex = current.rateIndex.get(monthlyInterestRate);
+        if (rateIndex == null || termInMonths < 1 || termInMonths > maxTermInMonths) {
+            return calculationEngine.annuityFactor(monthlyInterestRate, termInMonths);
+        }
+        return BigDecimal.valueOf(current.factors[rateIndex * maxTermInMonths + termInMonths - 1], CalculationEngine.SCALE);
+    }
+
+    @EventListener
+    public void onRateBandsChanged(RateBandsChangedEvent event) {
+        this.snapshot = this.build(event.bands());
+    }
+
+    /**
+     * Monthly rate as derived by the simulation, so that table keys compare equal (including scale) to the rates
+     * looked up at request time.
+     */
+    public static BigDecimal monthlyRate(BigDecimal annualRate) {
+        return annualRate.divide(MONTHS_PER_YEAR, CalculationEngine.SCALE, CalculationEngine.ROUNDING_MODE);
+    }
+
+    private Snapshot build(List<RateBand> bands) {
+        long start = System.nanoTime();
+        Map<BigDecimal, Integer> rateIndex = new HashMap<>();
+        for (RateBand band : bands) {
+            rateIndex.putIfAbsent(monthlyRate(band.getAnnualRate()), rateIndex.size());
+        }
+        long[] factors = new long[rateIndex.size() * maxTermInMonths];
+        rateIndex.forEach((monthlyRate, index) -> {
+            for (int term = 1; term <= maxTermInMonths; term++) {
+                factors[index * maxTermInMonths + term - 1] = calculationEngine.annuityFactor(monthlyRate, term).unscaledValue().longValueExact();
+            }
+        });
+        log.info("Built annuity factor table for {} rates x {} terms in {} ms", rateIndex.size(), maxTermInMonths, (System.nanoTime() - start) / 1_000_000);
+        return new Snapshot(Map.copyOf(rateIndex), factors);
+    }
+
+    private record Snapshot(Map<BigDecimal, Integer> rateIndex, long[] factors) {
+    }
+}
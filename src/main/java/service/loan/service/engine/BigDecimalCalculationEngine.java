@@ -0,0 +1,25 @@
+package service.loan.service.engine;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Reference engine: raises {@code 1+r} to the term at unlimited precision and rounds only the final quotient. It is
+ * exact but the intermediate mantissa grows linearly with the term. Kept as the oracle the other engines are checked
+ * against.
+ */
+@Component
+@ConditionalOnProperty(name = "loan-simulator.calculation.engine", havingValue = "reference", matchIfMissing = true)
+public class BigDecimalCalculationEngine implements CalculationEngine {
+
+    @Override
+    public BigDecimal annuityFactor(BigDecimal monthlyInterestRate, int termInMonths) {
+        BigDecimal onePlusRate = BigDecimal.ONE.add(monthlyInterestRate);
+        BigDecimal rateFactorPow = onePlusRate.pow(termInMonths);
+        BigDecimal numerator = monthlyInterestRate.multiply(rateFactorPow);
+        BigDecimal denominator = rateFactorPow.subtract(BigDecimal.ONE);
+        return numerator.divide(denominator, SCALE, ROUNDING_MODE);
+    }
+}
@@ -0,0 +1,16 @@
+package service.loan.service.engine;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Computes the annuity factor {@code r(1+r)^n / ((1+r)^n - 1)} used to turn a loan amount into its monthly payment.
+ * Every implementation must return the factor rounded to {@link #SCALE} decimal places with {@link #ROUNDING_MODE},
+ * exactly as {@link BigDecimalCalculationEngine} does, so that engines can be swapped without changing any result.
+ */
+public interface CalculationEngine {
+    int SCALE = 10;
+    RoundingMode ROUNDING_MODE = RoundingMode.HALF_EVEN;
+
+    BigDecimal annuityFactor(BigDecimal monthlyInterestRate, int termInMonths);
+}
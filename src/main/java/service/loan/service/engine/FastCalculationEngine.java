@@ -0,0 +1,66 @@
+package service.loan.service.engine;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Bounded-precision engine: {@code (1+r)^n} is raised by squaring in binary fixed point with
+ * {@link #FRACTION_BITS} fraction bits, so every intermediate is truncated with a shift instead of a decimal rounding
+ * and the cost no longer grows with the size of {@code (1+r)^n}.
+ * <p>
+ * For the rates and terms this service works with, the fixed-point quotient is off from the exact one by many orders
+ * of magnitude less than {@code 2^-64} units of the tenth decimal place. Rounding it to 10 places can therefore only
+ * disagree with the exact result when the exact quotient sits within that distance of a rounding midpoint; those
+ * cases are detected and delegated to {@link BigDecimalCalculationEngine}.
+ */
+@Component
+@ConditionalOnProperty(name = "loan-simulator.calculation.engine", havingValue = "fast")
+public class FastCalculationEngine implements CalculationEngine {
+    private static final int FRACTION_BITS = 192;
+    private static final int MIDPOINT_TOLERANCE_BITS = 64;
+    private static final BigInteger ONE = BigInteger.ONE.shiftLeft(FRACTION_BITS);
+    private static final BigInteger SCALE_FACTOR = BigInteger.TEN.pow(SCALE);
+
+    private final BigDecimalCalculationEngine reference = new BigDecimalCalculationEngine();
+
+    @Override
+    public BigDecimal annuityFactor(BigDecimal monthlyInterestRate, int termInMonths) {
+        // r = rate / 10^SCALE, so factor * 10^SCALE = rate * (1+r)^n / ((1+r)^n - 1) with both powers in fixed point.
+        BigDecimal rate = monthlyInterestRate.setScale(SCALE, ROUNDING_MODE);
+        if (rate.compareTo(monthlyInterestRate) != 0 || rate.signum() <= 0 || termInMonths <= 0) {
+            return reference.annuityFactor(monthlyInterestRate, termInMonths);
+        }
+        BigInteger unscaledRate = rate.unscaledValue();
+        BigInteger onePlusRate = SCALE_FACTOR.add(unscaledRate).shiftLeft(FRACTION_BITS).divide(SCALE_FACTOR);
+        BigInteger rateFactorPow = pow(onePlusRate, termInMonths);
+
+        BigInteger denominator = rateFactorPow.subtract(ONE);
+        BigInteger[] quotientAndRemainder = unscaledRate.multiply(rateFactorPow).divideAndRemainder(denominator);
+        BigInteger quotient = quotientAndRemainder[0];
+        BigInteger twiceRemainder = quotientAndRemainder[1].shiftLeft(1);
+        if (twiceRemainder.subtract(denominator).abs().compareTo(denominator.shiftRight(MIDPOINT_TOLERANCE_BITS)) <= 0) {
+            return reference.annuityFactor(monthlyInterestRate, termInMonths);
+        }
+        if (twiceRemainder.compareTo(denominator) > 0) {
+            quotient = quotient.add(BigInteger.ONE);
+        }
+        return new BigDecimal(quotient, SCALE);
+    }
+
+    private static BigInteger pow(BigInteger base, int exponent) {
+        BigInteger result = ONE;
+        BigInteger square = base;
+        for (int remaining = exponent; remaining > 0; remaining >>= 1) {
+            if ((remaining & 1) == 1) {
+                result = result.multiply(square).shiftRight(FRACTION_BITS);
+            }
+            if (remaining > 1) {
+                square = square.multiply(square).shiftRight(FRACTION_BITS);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,46 @@
+package service.loan.service.execution;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import service.loan.exception.LoanSimulationException;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Runs the task on a dedicated executor and waits for it, keeping simulations off the shared ForkJoin common pool.
+ */
+public class ExecutorSimulationDispatcher implements SimulationDispatcher, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ExecutorSimulationDispatcher.class);
+
+    private final ExecutorService executor;
+
+    public ExecutorSimulationDispatcher(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public <T> T dispatch(Supplier<T> task) {
+        Future<T> future = executor.submit(task::get);
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof LoanSimulationException loanSimulationException) {
+                throw loanSimulationException;
+            }
+            log.error("Error during loan simulation calculation", e.getCause());
+            throw new LoanSimulationException("Error calculating loan simulation", e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new LoanSimulationException("Error calculating loan simulation", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
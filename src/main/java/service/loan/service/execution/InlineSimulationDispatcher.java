@@ -0,0 +1,26 @@
+package service.loan.service.execution;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import service.loan.exception.LoanSimulationException;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs the task on the calling thread. The simulation is short and CPU-bound, so this avoids any hand-off.
+ */
+public class InlineSimulationDispatcher implements SimulationDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(InlineSimulationDispatcher.class);
+
+    @Override
+    public <T> T dispatch(Supplier<T> task) {
+        try {
+            return task.get();
+        } catch (LoanSimulationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.error("Error during loan simulation calculation", e);
+            throw new LoanSimulationException("Error calculating loan simulation", e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package service.loan.service.execution;
+
+import java.util.function.Supplier;
+
+/**
+ * Decides which thread runs the simulation math of a single request. The caller always waits for the result, so the
+ * choice only affects scheduling, not semantics.
+ */
+public interface SimulationDispatcher {
+    <T> T dispatch(Supplier<T> task);
+}
@@ -0,0 +1,108 @@
+package service.loan.service.history;
+
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.LoanSimulationResponse;
+import service.loan.model.SimulationHistoryEntry;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.zip.CRC32C;
+
+/**
+ * One quote as a fixed-width 64-byte record. Amounts are stored in cents and the rate in basis points:
+ *
+ * <pre>
+ *  0 long quotedAt (epoch millis)    32 long totalInterest
+ *  8 long loanAmount                 40 int  birthDate (epoch day)
+ * 16 long monthlyPayment             44 int  paymentTermInMonths
+ * 24 long totalAmount                48 int  annualInterestRate
+ *                                    52 int  reserved
+ *                                    56 int  CRC32C of bytes 0-55
+ *                                    60 int  magic
+ * </pre>
+ * <p>
+ * The checksum and magic are written with the record, so a record torn by a crash, or the zeroes past the end of a
+ * segment, never read as valid.
+ */
+public record HistoryRecord(long quotedAtMillis, long loanAmountCents, long monthlyPaymentCents, long totalAmountCents,
+                            long totalInterestCents, int birthDateEpochDay, int paymentTermInMonths, int annualRateBasisPoints) {
+    public static final int BYTES = 64;
+
+    static final int QUOTED_AT_OFFSET = 0;
+    static final int LOAN_AMOUNT_OFFSET = 8;
+    private static final int CHECKSUMMED_BYTES = 56;
+    private static final int MAGIC = 0x4C534852;
+
+    /**
+     * Loan amounts with more than two decimals are rounded half-even to the cent.
+     *
+     * @throws ArithmeticException if an amount does not fit in a {@code long} of cents
+     */
+    static HistoryRecord of(long quotedAtMillis, LoanSimulationRequest request, LoanSimulationResponse response) {
+        return new HistoryRecord(quotedAtMillis,
+                toCents(request.getLoanAmount()),
+                toCents(response.getMonthlyPayment()),
+                toCents(response.getTotalAmount()),
+                toCents(response.getTotalInterest()),
+                Math.toIntExact(request.getBirthDate().toEpochDay()),
+                request.getPaymentTermInMonths(),
+                Math.toIntExact(toCents(response.getAnnualInterestRate())));
+    }
+
+    static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Writes the record, checksum and magic into bytes 0-63 of {@code buffer}.
+     */
+    void writeTo(ByteBuffer buffer) {
+        buffer.putLong(0, quotedAtMillis)
+                .putLong(8, loanAmountCents)
+                .putLong(16, monthlyPaymentCents)
+                .putLong(24, totalAmountCents)
+                .putLong(32, totalInterestCents)
+                .putInt(40, birthDateEpochDay)
+                .putInt(44, paymentTermInMonths)
+                .putInt(48, annualRateBasisPoints)
+                .putInt(52, 0);
+        buffer.putInt(56, checksum(buffer, 0)).putInt(60, MAGIC);
+    }
+
+    static HistoryRecord readFrom(ByteBuffer buffer, int offset) {
+        return new HistoryRecord(buffer.getLong(offset),
+                buffer.getLong(offset + 8),
+                buffer.getLong(offset + 16),
+                buffer.getLong(offset + 24),
+                buffer.getLong(offset + 32),
+                buffer.getInt(offset + 40),
+                buffer.getInt(offset + 44),
+                buffer.getInt(offset + 48));
+    }
+
+    static boolean isValid(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + 60) == MAGIC && buffer.getInt(offset + 56) == checksum(buffer, offset);
+    }
+
+    public SimulationHistoryEntry toEntry() {
+        return SimulationHistoryEntry.builder()
+                .quotedAt(Instant.ofEpochMilli(quotedAtMillis))
+                .loanAmount(BigDecimal.valueOf(loanAmountCents, 2))
+                .birthDate(LocalDate.ofEpochDay(birthDateEpochDay))
+                .paymentTermInMonths(paymentTermInMonths)
+                .annualInterestRate(BigDecimal.valueOf(annualRateBasisPoints, 2))
+                .monthlyPayment(BigDecimal.valueOf(monthlyPaymentCents, 2))
+                .totalAmount(BigDecimal.valueOf(totalAmountCents, 2))
+                .totalInterest(BigDecimal.valueOf(totalInterestCents, 2))
+                .build();
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, CHECKSUMMED_BYTES));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,189 @@
+package service.loan.service.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * One append-only file of {@link HistoryRecord}s, memory-mapped in full when created. A 64-byte header holds the
+ * format, the capacity and, as of the last publish, the record count and timestamp range:
+ *
+ * <pre>
+ *  0 int magic   8 int record size   16 long count      32 long max quotedAt
+ *  4 int version 12 int capacity     24 long min quotedAt
+ * </pre>
+ * <p>
+ * Only the history writer appends. Records become visible to readers when {@link #publish()} stores the count in a
+ * volatile field, after the records and the timestamp range; readers read the count first and never look past it.
+ * Scans read the mapping in place with absolute gets and only materialize matching records.
+ * <p>
+ * A deleted segment is never unmapped explicitly. Its mapping, and the file's pages with it, stay valid until the
+ * buffer is collected, so a scan that started before the delete reads on safely.
+ */
+final class HistorySegment {
+    static final int HEADER_BYTES = 64;
+    static final String SUFFIX = ".seg";
+    static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_BYTES) / HistoryRecord.BYTES;
+
+    private static final int MAGIC = 0x4C534853;
+    private static final int VERSION = 1;
+
+    private final Path path;
+    private final long sequence;
+    private final int capacity;
+    private final MappedByteBuffer buffer;
+    private int written;
+    private volatile long minQuotedAt = Long.MAX_VALUE;
+    private volatile long maxQuotedAt = Long.MIN_VALUE;
+    private volatile int count;
+
+    private HistorySegment(Path path, long sequence, int capacity, MappedByteBuffer buffer) {
+        this.path = path;
+        this.sequence = sequence;
+        this.capacity = capacity;
+        this.buffer = buffer;
+    }
+
+    static HistorySegment create(Path directory, long sequence, int capacity) throws IOException {
+        Path path = directory.resolve(fileName(sequence));
+        try (FileChannel channel = FileChannel.open(path, CREATE_NEW, READ, WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) capacity * HistoryRecord.BYTES);
+            buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, HistoryRecord.BYTES).putInt(12, capacity);
+            return new HistorySegment(path, sequence, capacity, buffer);
+        }
+    }
+
+    /**
+     * Maps an existing segment. Records written after the last publish are kept if their checksum holds; the first
+     * invalid record ends the segment.
+     */
+    static HistorySegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, READ, WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                    || buffer.getInt(8) != HistoryRecord.BYTES) {
+                throw new IOException("Not a simulation history segment: " + path);
+            }
+            int capacity = buffer.getInt(12);
+            if (buffer.capacity() < HEADER_BYTES + (long) capacity * HistoryRecord.BYTES) {
+                throw new IOException("Truncated simulation history segment: " + path);
+            }
+            HistorySegment segment = new HistorySegment(path, sequence(path), capacity, buffer);
+            segment.recover();
+            return segment;
+        }
+    }
+
+    static String fileName(long sequence) {
+        return String.format("%020d%s", sequence, SUFFIX);
+    }
+
+    static long sequence(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    boolean isFull() {
+        return written == capacity;
+    }
+
+    /**
+     * Copies one encoded record, bytes 0-63 of {@code record}, after the last one. Not visible until {@link #publish()}.
+     */
+    void append(ByteBuffer record) {
+        long quotedAt = record.getLong(HistoryRecord.QUOTED_AT_OFFSET);
+        buffer.put(offset(written), record, 0, HistoryRecord.BYTES);
+        written++;
+        if (quotedAt < minQuotedAt) {
+            minQuotedAt = quotedAt;
+        }
+        if (quotedAt > maxQuotedAt) {
+            maxQuotedAt = quotedAt;
+        }
+    }
+
+    void publish() {
+        if (count == written) {
+            return;
+        }
+        buffer.putLong(16, written).putLong(24, minQuotedAt).putLong(32, maxQuotedAt);
+        count = written;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * Adds the records quoted within {@code [fromMillis, toMillis]} with a loan amount within
+     * {@code [minAmountCents, maxAmountCents]} to {@code matches}, in append order, until it holds {@code limit}.
+     */
+    void scan(long fromMillis, long toMillis, long minAmountCents, long maxAmountCents, int limit, List<HistoryRecord> matches) {
+        int published = count;
+        if (published == 0 || maxQuotedAt < fromMillis || minQuotedAt > toMillis) {
+            return;
+        }
+        for (int i = 0; i < published && matches.size() < limit; i++) {
+            int offset = offset(i);
+            long quotedAt = buffer.getLong(offset + HistoryRecord.QUOTED_AT_OFFSET);
+            if (quotedAt < fromMillis || quotedAt > toMillis) {
+                continue;
+            }
+            long loanAmount = buffer.getLong(offset + HistoryRecord.LOAN_AMOUNT_OFFSET);
+            if (loanAmount >= minAmountCents && loanAmount <= maxAmountCents) {
+                matches.add(HistoryRecord.readFrom(buffer, offset));
+            }
+        }
+    }
+
+    long getMinQuotedAt() {
+        return minQuotedAt;
+    }
+
+    long getMaxQuotedAt() {
+        return maxQuotedAt;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Deletes the file. Readers still scanning it keep reading the mapping, which outlives the file.
+     */
+    void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    private void recover() {
+        int recovered = (int) Math.min(buffer.getLong(16), capacity);
+        if (recovered > 0) {
+            minQuotedAt = buffer.getLong(24);
+            maxQuotedAt = buffer.getLong(32);
+        }
+        written = recovered;
+        while (written < capacity && HistoryRecord.isValid(buffer, offset(written))) {
+            long quotedAt = buffer.getLong(offset(written) + HistoryRecord.QUOTED_AT_OFFSET);
+            minQuotedAt = Math.min(minQuotedAt, quotedAt);
+            maxQuotedAt = Math.max(maxQuotedAt, quotedAt);
+            written++;
+        }
+        this.publish();
+    }
+
+    private static int offset(int index) {
+        return HEADER_BYTES + index * HistoryRecord.BYTES;
+    }
+}
@@ -0,0 +1,296 @@
+package service.loan.service.history;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.exception.SimulationHistoryUnavailableException;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.LoanSimulationResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of every quote, kept in memory-mapped {@link HistorySegment} files under {@code directory}.
+ * <p>
+ * Request threads only stamp the quote and put it on a bounded queue; they never touch the disk. A single writer
+ * thread drains the queue in batches, encodes each quote as a {@link HistoryRecord}, copies it into the active segment
+ * and publishes the batch to readers at once. Mapped pages are forced to disk every {@code force-interval}, so a crash
+ * of the process loses nothing and a crash of the host loses at most that window. When the queue is full the request
+ * waits up to {@code enqueue-timeout} for the writer and then fails, so no quote is handed out without being recorded.
+ * <p>
+ * A new segment is started when the active one is full or older than {@code roll-interval}. Sealed segments whose
+ * newest quote is older than {@code retention} are deleted; their mappings are left for the GC, so a query still
+ * scanning one reads on.
+ */
+@Component
+public class SimulationHistoryLog implements SimulationHistoryRecorder, SmartLifecycle, MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(SimulationHistoryLog.class);
+    private static final long MAX_POLL_MILLIS = 100;
+    private static final long RETENTION_CHECK_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final LoanSimulatorProperties.History properties;
+    private final Clock clock;
+    private final BlockingQueue<PendingQuote> queue;
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final ByteBuffer scratch = ByteBuffer.allocate(HistoryRecord.BYTES);
+    private volatile List<HistorySegment> segments = List.of();
+    private volatile long appended;
+    private volatile boolean running;
+    private HistorySegment active;
+    private Thread writer;
+
+    @Autowired
+    public SimulationHistoryLog(LoanSimulatorProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    public SimulationHistoryLog(LoanSimulatorProperties properties, Clock clock) {
+        this.properties = properties.getHistory();
+        this.clock = clock;
+        this.queue = new ArrayBlockingQueue<>(this.properties.getQueueCapacity());
+        if (this.properties.getSegmentRecords() < 1 || this.properties.getSegmentRecords() > HistorySegment.MAX_CAPACITY) {
+            throw new IllegalArgumentException("loan-simulator.history.segment-records must be between 1 and " + HistorySegment.MAX_CAPACITY);
+        }
+    }
+
+    @Override
+    public void record(LoanSimulationRequest request, LoanSimulationResponse response) {
+        if (!running) {
+            return;
+        }
+        try {
+            if (queue.offer(new PendingQuote(clock.millis(), request, response), properties.getEnqueueTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        throw new SimulationHistoryUnavailableException("Simulation history is not keeping up; try again later");
+    }
+
+    /**
+     * Published records quoted within {@code [fromMillis, toMillis]} with a loan amount within
+     * {@code [minAmountCents, maxAmountCents]}, oldest segment first, at most {@code limit} of them.
+     */
+    public List<HistoryRecord> query(long fromMillis, long toMillis, long minAmountCents, long maxAmountCents, int limit) {
+        List<HistoryRecord> matches = new ArrayList<>(Math.min(limit, 1024));
+        for (HistorySegment segment : segments) {
+            if (matches.size() >= limit) {
+                break;
+            }
+            segment.scan(fromMillis, toMillis, minAmountCents, maxAmountCents, limit, matches);
+        }
+        return matches;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        if (properties.getDirectory() == null || !Path.of(properties.getDirectory()).isAbsolute()) {
+            throw new IllegalStateException("loan-simulator.history.directory must be an absolute path when the history is enabled");
+        }
+        try {
+            this.openSegments();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open simulation history in " + properties.getDirectory(), e);
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("simulation-history-writer").daemon().start(this::write);
+    }
+
+    /**
+     * Stops accepting quotes, lets the writer drain what is queued and forces the active segment.
+     */
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Starts before and stops after the web server, so every request it serves can be recorded.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("loan.simulation.history.appended", this, history -> history.appended)
+                .description("Quotes written to the simulation history")
+                .register(registry);
+        FunctionCounter.builder("loan.simulation.history.dropped", dropped, LongAdder::sum)
+                .description("Quotes the simulation history writer failed to write")
+                .register(registry);
+        FunctionCounter.builder("loan.simulation.history.rejected", rejected, LongAdder::sum)
+                .description("Requests failed because the simulation history queue stayed full")
+                .register(registry);
+        Gauge.builder("loan.simulation.history.queued", queue, BlockingQueue::size)
+                .description("Quotes waiting for the simulation history writer")
+                .register(registry);
+        Gauge.builder("loan.simulation.history.segments", this, history -> history.segments.size())
+                .description("Segment files in the simulation history")
+                .register(registry);
+    }
+
+    private void openSegments() throws IOException {
+        Path directory = Path.of(properties.getDirectory());
+        Files.createDirectories(directory);
+        List<HistorySegment> opened = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(file -> file.getFileName().toString().endsWith(HistorySegment.SUFFIX)).sorted().toList()) {
+                opened.add(HistorySegment.open(file));
+            }
+        }
+        segments = List.copyOf(opened);
+        active = opened.isEmpty() ? null : opened.getLast();
+        appended = opened.stream().mapToLong(HistorySegment::getCount).sum();
+        this.applyRetention();
+    }
+
+    private void write() {
+        List<PendingQuote> batch = new ArrayList<>(properties.getBatchSize());
+        long pollMillis = Math.min(MAX_POLL_MILLIS, properties.getForceInterval().toMillis());
+        long lastForce = clock.millis();
+        long lastRetentionCheck = lastForce;
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingQuote first = queue.poll(pollMillis, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, properties.getBatchSize() - 1);
+                    this.append(batch);
+                    batch.clear();
+                }
+                long now = clock.millis();
+                if (now - lastForce >= properties.getForceInterval().toMillis()) {
+                    this.force();
+                    lastForce = now;
+                }
+                if (now - lastRetentionCheck >= RETENTION_CHECK_MILLIS) {
+                    this.applyRetention();
+                    lastRetentionCheck = now;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (IOException | RuntimeException e) {
+                log.error("Error writing simulation history; {} quotes lost", batch.size(), e);
+                dropped.add(batch.size());
+                batch.clear();
+            }
+        }
+        this.force();
+    }
+
+    private void append(List<PendingQuote> batch) throws IOException {
+        int written = 0;
+        for (PendingQuote quote : batch) {
+            HistoryRecord record;
+            try {
+                record = HistoryRecord.of(quote.quotedAtMillis(), quote.request(), quote.response());
+            } catch (ArithmeticException e) {
+                log.warn("Skipping a quote that does not fit a history record: {}", e.getMessage());
+                dropped.increment();
+                continue;
+            }
+            if (active == null || active.isFull() || this.rollIntervalElapsed(quote.quotedAtMillis())) {
+                this.roll();
+            }
+            record.writeTo(scratch);
+            active.append(scratch);
+            written++;
+        }
+        if (written > 0) {
+            active.publish();
+            appended += written;
+        }
+    }
+
+    private boolean rollIntervalElapsed(long quotedAtMillis) {
+        return active.getCount() > 0 && quotedAtMillis - active.getMinQuotedAt() >= properties.getRollInterval().toMillis();
+    }
+
+    private void roll() throws IOException {
+        long sequence = 0;
+        if (active != null) {
+            active.publish();
+            active.force();
+            sequence = active.getSequence() + 1;
+        }
+        active = HistorySegment.create(Path.of(properties.getDirectory()), sequence, properties.getSegmentRecords());
+        List<HistorySegment> rolled = new ArrayList<>(segments);
+        rolled.add(active);
+        segments = List.copyOf(rolled);
+    }
+
+    private void force() {
+        if (active != null) {
+            active.force();
+        }
+    }
+
+    private void applyRetention() {
+        long cutoff = clock.millis() - properties.getRetention().toMillis();
+        List<HistorySegment> expired = segments.stream()
+                .filter(segment -> segment != active && segment.getMaxQuotedAt() < cutoff)
+                .toList();
+        if (expired.isEmpty()) {
+            return;
+        }
+        for (HistorySegment segment : expired) {
+            try {
+                segment.delete();
+            } catch (IOException e) {
+                log.warn("Could not delete expired simulation history segment {}", segment.getSequence(), e);
+            }
+        }
+        // Unpublished only once their files are gone, so a query that no longer sees a segment never finds its file.
+        // Deleting does not unmap, so scans still in flight read on until the buffer is collected.
+        segments = segments.stream().filter(segment -> !expired.contains(segment)).toList();
+    }
+
+    private record PendingQuote(long quotedAtMillis, LoanSimulationRequest request, LoanSimulationResponse response) {
+    }
+}
@@ -0,0 +1,14 @@
+package service.loan.service.history;
+
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.LoanSimulationResponse;
+
+/**
+ * Receives every quote handed out, on the request thread and before the quote is returned. Implementations must not
+ * do I/O on that thread. An implementation that cannot keep a quote throws, which fails the request, rather than lose
+ * it.
+ */
+@FunctionalInterface
+public interface SimulationHistoryRecorder {
+    void record(LoanSimulationRequest request, LoanSimulationResponse response);
+}
@@ -0,0 +1,136 @@
+package service.loan.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Service;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.model.AmortizationScheduleRow;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.LoanSimulationResponse;
+import service.loan.service.AmortizationScheduleService;
+import service.loan.service.LoanSimulatorService;
+import service.loan.service.engine.AnnuityFactorTable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Builds the schedule from the simulate response itself, so the rows cannot drift from it: every month pays the rounded
+ * {@code monthlyPayment} except the last, which pays whatever is left of {@code totalAmount} and clears the balance.
+ * Interest is charged on the outstanding balance at the monthly rate of the response and rounded to cents each month.
+ *
+ * <p>On cent-sized loans the rounded payment can add up to more than {@code totalAmount}. No row then pays more than is
+ * left of it, and each row's interest stays between zero and the interest still owed, so no payment, principal,
+ * interest or balance goes negative and the columns still add up to the response.
+ */
+@Service
+public class AmortizationScheduleServiceImpl implements AmortizationScheduleService {
+    private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_EVEN;
+    private static final char NEWLINE = '\n';
+
+    private final LoanSimulatorService loanSimulatorService;
+    private final ObjectWriter rowWriter;
+    private final LoanSimulatorProperties.Stream properties;
+
+    public AmortizationScheduleServiceImpl(LoanSimulatorService loanSimulatorService, ObjectMapper objectMapper, LoanSimulatorProperties properties) {
+        this.loanSimulatorService = loanSimulatorService;
+        this.rowWriter = objectMapper.writerFor(AmortizationScheduleRow.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.properties = properties.getStream();
+    }
+
+    @Override
+    public Stream<AmortizationScheduleRow> schedule(LoanSimulationRequest request, LoanSimulationResponse simulation, BigDecimal monthlyInterestRate) {
+        ScheduleIterator iterator = new ScheduleIterator(request.getLoanAmount(), request.getPaymentTermInMonths(),
+                monthlyInterestRate, simulation.getMonthlyPayment(), simulation.getTotalAmount());
+        return StreamSupport.stream(Spliterators.spliterator(iterator, request.getPaymentTermInMonths(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    @Override
+    public void writeSchedule(LoanSimulationRequest request, OutputStream output) throws IOException {
+        LoanSimulationResponse simulation = loanSimulatorService.simulateLoan(request);
+        BigDecimal monthlyInterestRate = AnnuityFactorTable.monthlyRate(simulation.getAnnualInterestRate().movePointLeft(2));
+        int flushEvery = Math.max(1, properties.getFlushEvery());
+        try (JsonGenerator generator = rowWriter.createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            Iterator<AmortizationScheduleRow> rows = this.schedule(request, simulation, monthlyInterestRate).iterator();
+            while (rows.hasNext()) {
+                AmortizationScheduleRow row = rows.next();
+                rowWriter.writeValue(generator, row);
+                generator.writeRaw(NEWLINE);
+                if (row.getMonth() % flushEvery == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+    }
+
+    private static final class ScheduleIterator implements Iterator<AmortizationScheduleRow> {
+        private final int termInMonths;
+        private final BigDecimal monthlyInterestRate;
+        private final BigDecimal monthlyPayment;
+        private BigDecimal balance;
+        private BigDecimal unpaidTotal;
+        private int month;
+
+        ScheduleIterator(BigDecimal loanAmount, int termInMonths, BigDecimal monthlyInterestRate, BigDecimal monthlyPayment, BigDecimal totalAmount) {
+            this.termInMonths = termInMonths;
+            this.monthlyInterestRate = monthlyInterestRate;
+            this.monthlyPayment = monthlyPayment;
+            this.balance = loanAmount;
+            this.unpaidTotal = totalAmount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return month < termInMonths;
+        }
+
+        /**
+         * Keeps {@code unpaidTotal - balance}, the interest still owed, from going negative: a month pays at most the
+         * unpaid total, and its interest is at least what the payment exceeds the balance by and at most the payment and
+         * what is owed.
+         */
+        @Override
+        public AmortizationScheduleRow next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            month++;
+            BigDecimal payment;
+            BigDecimal interest;
+            if (month == termInMonths) {
+                payment = unpaidTotal;
+                interest = unpaidTotal.subtract(balance);
+            } else {
+                payment = monthlyPayment.min(unpaidTotal);
+                interest = balance.multiply(monthlyInterestRate).setScale(2, ROUNDING_MODE)
+                        .min(unpaidTotal.subtract(balance))
+                        .min(payment)
+                        .max(payment.subtract(balance));
+            }
+            BigDecimal principal = payment.subtract(interest);
+            balance = balance.subtract(principal);
+            unpaidTotal = unpaidTotal.subtract(payment);
+            return AmortizationScheduleRow.builder()
+                    .month(month)
+                    .payment(payment)
+                    .principal(principal)
+                    .interest(interest)
+                    .balance(balance)
+                    .build();
+        }
+    }
+}
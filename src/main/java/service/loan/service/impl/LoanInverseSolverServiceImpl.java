@@ -0,0 +1,133 @@
+package service.loan.service.impl;
+
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import org.springframework.stereotype.Service;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.exception.LoanSimulationException;
+import service.loan.exception.LoanValidationException;
+import service.loan.model.LoanSolutionResponse;
+import service.loan.model.MaxLoanAmountRequest;
+import service.loan.model.MinPaymentTermRequest;
+import service.loan.service.LoanInverseSolverService;
+import service.loan.service.LoanSimulatorService;
+import service.loan.service.engine.AnnuityFactorTable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Inverts the annuity formula instead of searching it. Each solver starts from the closed-form answer and then walks
+ * to the exact boundary by checking the rounded payment with {@link LoanSimulatorService#calculateMonthlyPayment}.
+ * The payment is monotonic in both the amount and the term, and the closed form lands within a step or two of the
+ * boundary, so an answer costs a handful of payment evaluations.
+ */
+@Service
+public class LoanInverseSolverServiceImpl implements LoanInverseSolverService {
+    private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_EVEN;
+    private static final BigDecimal CENT = new BigDecimal("0.01");
+    private static final BigDecimal HALF_CENT = new BigDecimal("0.005");
+    private static final LoanValidationException BIRTH_DATE_IN_FUTURE = new LoanValidationException("Birth date cannot be in the future");
+
+    private final LoanSimulatorService loanSimulatorService;
+    private final int maxTermInMonths;
+    private final LoanValidationException termTooLong;
+
+    public LoanInverseSolverServiceImpl(LoanSimulatorService loanSimulatorService, LoanSimulatorProperties properties) {
+        this.loanSimulatorService = loanSimulatorService;
+        this.maxTermInMonths = properties.getCalculation().getMaxTermInMonths();
+        this.termTooLong = new LoanValidationException("Payment term must not exceed " + maxTermInMonths + " months");
+    }
+
+    /**
+     * Terms beyond {@code calculation.max-term-in-months} are rejected: the annuity factor table does not cover them,
+     * so every payment evaluated by the search would fall back to the calculation engine under one bulkhead permit.
+     */
+    @RateLimiter(name = "loanSimulation")
+    @Bulkhead(name = "loanSimulation")
+    @Override
+    public LoanSolutionResponse solveMaxLoanAmount(MaxLoanAmountRequest request) {
+        this.validateBirthDate(request.getBirthDate());
+        if (request.getPaymentTermInMonths() > maxTermInMonths) {
+            throw termTooLong;
+        }
+        BigDecimal annualInterestRate = loanSimulatorService.calculateAnnualInterestRate(request.getBirthDate());
+        BigDecimal monthlyInterestRate = AnnuityFactorTable.monthlyRate(annualInterestRate);
+        int term = request.getPaymentTermInMonths();
+        BigDecimal target = request.getMonthlyPayment();
+
+        BigDecimal factor = loanSimulatorService.calculateMonthlyPayment(BigDecimal.ONE, monthlyInterestRate, term);
+        BigDecimal amount = target.add(HALF_CENT).divide(factor, 2, RoundingMode.DOWN).max(CENT);
+        while (amount.compareTo(CENT) > 0 && this.payment(amount, monthlyInterestRate, term).compareTo(target) > 0) {
+            amount = amount.subtract(CENT);
+        }
+        if (this.payment(amount, monthlyInterestRate, term).compareTo(target) > 0) {
+            throw new LoanSimulationException("Monthly payment is too low for any loan over " + term + " months");
+        }
+        while (this.payment(amount.add(CENT), monthlyInterestRate, term).compareTo(target) <= 0) {
+            amount = amount.add(CENT);
+        }
+        return this.solution(amount, term, annualInterestRate, monthlyInterestRate);
+    }
+
+    @RateLimiter(name = "loanSimulation")
+    @Bulkhead(name = "loanSimulation")
+    @Override
+    public LoanSolutionResponse solveMinPaymentTerm(MinPaymentTermRequest request) {
+        this.validateBirthDate(request.getBirthDate());
+        BigDecimal annualInterestRate = loanSimulatorService.calculateAnnualInterestRate(request.getBirthDate());
+        BigDecimal monthlyInterestRate = AnnuityFactorTable.monthlyRate(annualInterestRate);
+        BigDecimal amount = request.getLoanAmount();
+        BigDecimal target = request.getMonthlyPayment();
+
+        int term = this.estimateTerm(amount, target, monthlyInterestRate.doubleValue());
+        while (term < maxTermInMonths && this.payment(amount, monthlyInterestRate, term).compareTo(target) > 0) {
+            term++;
+        }
+        if (this.payment(amount, monthlyInterestRate, term).compareTo(target) > 0) {
+            throw new LoanSimulationException("Monthly payment is too low to repay the loan within " + maxTermInMonths + " months");
+        }
+        while (term > 1 && this.payment(amount, monthlyInterestRate, term - 1).compareTo(target) <= 0) {
+            term--;
+        }
+        return this.solution(amount, term, annualInterestRate, monthlyInterestRate);
+    }
+
+    /**
+     * Continuous solution of {@code P = A * r / (1 - (1 + r)^-n)} for {@code n}, clamped to the supported terms. When
+     * the payment does not cover the first month's interest there is no solution and the estimate is the longest term,
+     * which the caller then rejects.
+     */
+    private int estimateTerm(BigDecimal amount, BigDecimal target, double monthlyRate) {
+        double ratio = amount.doubleValue() / target.doubleValue();
+        double term;
+        if (monthlyRate == 0.0) {
+            term = ratio;
+        } else if (monthlyRate * ratio >= 1.0) {
+            return maxTermInMonths;
+        } else {
+            term = -Math.log1p(-monthlyRate * ratio) / Math.log1p(monthlyRate);
+        }
+        return (int) Math.clamp(Math.ceil(term), 1, maxTermInMonths);
+    }
+
+    private BigDecimal payment(BigDecimal amount, BigDecimal monthlyInterestRate, int term) {
+        return loanSimulatorService.calculateMonthlyPayment(amount, monthlyInterestRate, term).setScale(2, ROUNDING_MODE);
+    }
+
+    private LoanSolutionResponse solution(BigDecimal amount, int term, BigDecimal annualInterestRate, BigDecimal monthlyInterestRate) {
+        BigDecimal monthlyPayment = loanSimulatorService.calculateMonthlyPayment(amount, monthlyInterestRate, term);
+        return LoanSolutionResponse.builder()
+                .loanAmount(amount)
+                .paymentTermInMonths(term)
+                .simulation(LoanSimulatorServiceImpl.buildResponse(amount, term, annualInterestRate, monthlyPayment))
+                .build();
+    }
+
+    private void validateBirthDate(LocalDate birthDate) {
+        if (birthDate.isAfter(LocalDate.now())) {
+            throw BIRTH_DATE_IN_FUTURE;
+        }
+    }
+}
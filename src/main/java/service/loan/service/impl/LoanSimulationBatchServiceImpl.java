@@ -0,0 +1,100 @@
+package service.loan.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.ErrorResponse;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.exception.GlobalExceptionHandler;
+import service.loan.exception.LoanSimulationException;
+import service.loan.model.LoanSimulationBatchItemResponse;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.service.LoanSimulationBatchService;
+import service.loan.service.LoanSimulatorService;
+import service.loan.validation.LoanSimulationRequestValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+@Service
+public class LoanSimulationBatchServiceImpl implements LoanSimulationBatchService {
+    private static final Logger log = LoggerFactory.getLogger(LoanSimulationBatchServiceImpl.class);
+
+    private final LoanSimulatorService loanSimulatorService;
+    private final LoanSimulationRequestValidator requestValidator;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final ExecutorService executor;
+    private final LoanSimulatorProperties.Batch properties;
+
+    public LoanSimulationBatchServiceImpl(LoanSimulatorService loanSimulatorService,
+                                          LoanSimulationRequestValidator requestValidator,
+                                          GlobalExceptionHandler exceptionHandler,
+                                          @Qualifier("bulkSimulationExecutor") ExecutorService executor,
+                                          LoanSimulatorProperties properties) {
+        this.loanSimulatorService = loanSimulatorService;
+        this.requestValidator = requestValidator;
+        this.exceptionHandler = exceptionHandler;
+        this.executor = executor;
+        this.properties = properties.getBatch();
+    }
+
+    /**
+     * Every item goes through the proxied {@link LoanSimulatorService#simulateLoanMetered}, so each computed item takes
+     * its own rate-limiter and bulkhead permit, and an item answered from the result cache still takes a rate-limiter
+     * permit. The semaphore only caps how many items of this batch compete for those permits at once, which keeps a
+     * large batch from exhausting the bulkhead wait time of its own tail.
+     */
+    @Override
+    public List<LoanSimulationBatchItemResponse> simulateBatch(List<LoanSimulationRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new LoanSimulationException("Batch must contain at least one request");
+        } else if (requests.size() > properties.getMaxSize()) {
+            throw new LoanSimulationException("Batch size must not exceed " + properties.getMaxSize());
+        }
+
+        Semaphore permits = new Semaphore(Math.max(1, properties.getParallelism()));
+        List<CompletableFuture<LoanSimulationBatchItemResponse>> futures = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            int index = i;
+            LoanSimulationRequest request = requests.get(i);
+            futures.add(CompletableFuture.supplyAsync(() -> this.simulateItem(index, request, permits), executor));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private LoanSimulationBatchItemResponse simulateItem(int index, LoanSimulationRequest request, Semaphore permits) {
+        try {
+            requestValidator.validate(request);
+            permits.acquire();
+            try {
+                return LoanSimulationBatchItemResponse.builder()
+                        .index(index)
+                        .status(200)
+                        .result(loanSimulatorService.simulateLoanMetered(request))
+                        .build();
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return this.toErrorItem(index, new LoanSimulationException("Error calculating loan simulation", e));
+        } catch (Exception e) {
+            log.debug("Batch item {} failed", index, e);
+            return this.toErrorItem(index, e);
+        }
+    }
+
+    private LoanSimulationBatchItemResponse toErrorItem(int index, Exception ex) {
+        ResponseEntity<ErrorResponse> response = exceptionHandler.resolve(ex);
+        return LoanSimulationBatchItemResponse.builder()
+                .index(index)
+                .status(response.getStatusCode().value())
+                .error(response.getBody().getBody().getDetail())
+                .build();
+    }
+}
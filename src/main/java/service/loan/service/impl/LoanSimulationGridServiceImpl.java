@@ -0,0 +1,143 @@
+package service.loan.service.impl;
+
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.exception.LoanSimulationException;
+import service.loan.exception.LoanValidationException;
+import service.loan.model.LoanSimulationGridRequest;
+import service.loan.model.LoanSimulationGridResponse;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.LoanSimulationResponse;
+import service.loan.service.LoanSimulationGridService;
+import service.loan.service.LoanSimulatorService;
+import service.loan.service.engine.AnnuityFactorTable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Evaluates an amount x term grid with one annuity factor per term. The payment of every cell in a row is
+ * {@code amount * factor}, exactly as {@link LoanSimulatorService#calculateMonthlyPayment} computes it, and the same
+ * rounding produces the totals, so each cell equals the single simulation of its amount and term. Rows are split into
+ * {@code parallelism} contiguous chunks evaluated concurrently.
+ */
+@Service
+public class LoanSimulationGridServiceImpl implements LoanSimulationGridService {
+    private final LoanSimulatorService loanSimulatorService;
+    private final AnnuityFactorTable annuityFactorTable;
+    private final ExecutorService executor;
+    private final LoanSimulatorProperties.Grid properties;
+    private final int maxTermInMonths;
+    private final LoanValidationException termTooLong;
+
+    public LoanSimulationGridServiceImpl(LoanSimulatorService loanSimulatorService,
+                                         AnnuityFactorTable annuityFactorTable,
+                                         @Qualifier("bulkSimulationExecutor") ExecutorService executor,
+                                         LoanSimulatorProperties properties) {
+        this.loanSimulatorService = loanSimulatorService;
+        this.annuityFactorTable = annuityFactorTable;
+        this.executor = executor;
+        this.properties = properties.getGrid();
+        this.maxTermInMonths = properties.getCalculation().getMaxTermInMonths();
+        this.termTooLong = new LoanValidationException("Payment term must not exceed " + maxTermInMonths + " months");
+    }
+
+    /**
+     * The whole grid takes a single rate-limiter and bulkhead permit, like one simulation. Terms and amounts ascend, so
+     * validating the smallest cell as {@code /simulate} would and the longest term against
+     * {@code calculation.max-term-in-months} covers every cell; longer terms would each fall back to the calculation
+     * engine under that one permit.
+     */
+    @RateLimiter(name = "loanSimulation")
+    @Bulkhead(name = "loanSimulation")
+    @Override
+    public LoanSimulationGridResponse simulateGrid(LoanSimulationGridRequest request) {
+        List<BigDecimal> amounts = this.amounts(request);
+        List<Integer> terms = this.terms(request, amounts.size());
+        loanSimulatorService.validateRequest(LoanSimulationRequest.builder()
+                .loanAmount(amounts.get(0))
+                .paymentTermInMonths(terms.get(0))
+                .birthDate(request.getBirthDate())
+                .build());
+        if (terms.get(terms.size() - 1) > maxTermInMonths) {
+            throw termTooLong;
+        }
+
+        BigDecimal annualInterestRate = loanSimulatorService.calculateAnnualInterestRate(request.getBirthDate());
+        BigDecimal monthlyInterestRate = AnnuityFactorTable.monthlyRate(annualInterestRate);
+        LoanSimulationResponse[][] rows = new LoanSimulationResponse[terms.size()][];
+
+        int chunks = Math.clamp(properties.getParallelism(), 1, terms.size());
+        int chunkSize = (terms.size() + chunks - 1) / chunks;
+        List<CompletableFuture<Void>> futures = new ArrayList<>(chunks);
+        for (int start = 0; start < terms.size(); start += chunkSize) {
+            int from = start;
+            int to = Math.min(terms.size(), start + chunkSize);
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int t = from; t < to; t++) {
+                    rows[t] = this.row(amounts, terms.get(t), annualInterestRate, monthlyInterestRate);
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        return LoanSimulationGridResponse.builder()
+                .annualInterestRate(rows[0][0].getAnnualInterestRate())
+                .loanAmounts(amounts)
+                .paymentTermsInMonths(terms)
+                .monthlyPayment(Arrays.stream(rows).map(row -> Arrays.stream(row).map(LoanSimulationResponse::getMonthlyPayment).toList()).toList())
+                .totalAmount(Arrays.stream(rows).map(row -> Arrays.stream(row).map(LoanSimulationResponse::getTotalAmount).toList()).toList())
+                .totalInterest(Arrays.stream(rows).map(row -> Arrays.stream(row).map(LoanSimulationResponse::getTotalInterest).toList()).toList())
+                .build();
+    }
+
+    private LoanSimulationResponse[] row(List<BigDecimal> amounts, int term, BigDecimal annualInterestRate, BigDecimal monthlyInterestRate) {
+        BigDecimal factor = annuityFactorTable.annuityFactor(monthlyInterestRate, term);
+        LoanSimulationResponse[] row = new LoanSimulationResponse[amounts.size()];
+        for (int a = 0; a < row.length; a++) {
+            BigDecimal amount = amounts.get(a);
+            row[a] = LoanSimulatorServiceImpl.buildResponse(amount, term, annualInterestRate, amount.multiply(factor));
+        }
+        return row;
+    }
+
+    private List<BigDecimal> amounts(LoanSimulationGridRequest request) {
+        if (request.getLoanAmountTo().compareTo(request.getLoanAmountFrom()) < 0) {
+            throw new LoanSimulationException("Loan amount range end must not be below its start");
+        }
+        BigDecimal steps = request.getLoanAmountTo().subtract(request.getLoanAmountFrom())
+                .divide(request.getLoanAmountStep(), 0, RoundingMode.DOWN);
+        if (steps.compareTo(BigDecimal.valueOf(properties.getMaxCells())) >= 0) {
+            throw new LoanSimulationException("Grid size must not exceed " + properties.getMaxCells() + " cells");
+        }
+        int count = steps.intValue() + 1;
+        List<BigDecimal> amounts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            amounts.add(request.getLoanAmountFrom().add(request.getLoanAmountStep().multiply(BigDecimal.valueOf(i))));
+        }
+        return amounts;
+    }
+
+    private List<Integer> terms(LoanSimulationGridRequest request, int amountCount) {
+        if (request.getPaymentTermTo() < request.getPaymentTermFrom()) {
+            throw new LoanSimulationException("Payment term range end must not be below its start");
+        }
+        long count = (request.getPaymentTermTo() - request.getPaymentTermFrom()) / request.getPaymentTermStep() + 1;
+        if (count * amountCount > properties.getMaxCells()) {
+            throw new LoanSimulationException("Grid size must not exceed " + properties.getMaxCells() + " cells");
+        }
+        List<Integer> terms = new ArrayList<>((int) count);
+        for (int i = 0; i < count; i++) {
+            terms.add(request.getPaymentTermFrom() + i * request.getPaymentTermStep());
+        }
+        return terms;
+    }
+}
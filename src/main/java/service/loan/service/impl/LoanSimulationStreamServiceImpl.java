@@ -0,0 +1,241 @@
+package service.loan.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.ErrorResponse;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.exception.GlobalExceptionHandler;
+import service.loan.exception.LoanSimulationException;
+import service.loan.exception.LoanValidationException;
+import service.loan.model.LoanSimulationBatchItemResponse;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.service.LoanSimulationStreamService;
+import service.loan.service.LoanSimulatorService;
+import service.loan.validation.LoanSimulationRequestValidator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Processes the input one chunk of {@code chunk-size} records at a time: read and validate the chunk, simulate it, write
+ * its results and flush, then read the next chunk. Nothing is read ahead of the current chunk, so a slow client stalls
+ * the reader through the servlet output buffer and the memory held is one chunk regardless of the input size.
+ *
+ * <p>Each chunk takes one permit of the {@code loanSimulation} circuit breaker, rate limiter and bulkhead, like a grid
+ * or a single simulation, and holds it only while its records are computed. A chunk refused a permit is written as one
+ * error line per record with the status the single-simulation endpoint would return. A record whose calculation fails
+ * for any reason other than validation is written as an error line too, and counts as a failed call of the circuit
+ * breaker, so a failing calculation opens it for the stream as it would for {@code /simulate}.
+ *
+ * <p>Streamed results are quotes like any other, so they are recorded in the simulation history when it is enabled; a
+ * record the history cannot take fails with 503 on its own line.
+ */
+@Service
+public class LoanSimulationStreamServiceImpl implements LoanSimulationStreamService {
+    private static final byte NEWLINE = '\n';
+    private static final String INSTANCE_NAME = "loanSimulation";
+
+    private final LoanSimulatorService loanSimulatorService;
+    private final LoanSimulationRequestValidator requestValidator;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final ObjectReader requestReader;
+    private final ObjectWriter recordWriter;
+    private final CircuitBreaker circuitBreaker;
+    private final RateLimiter rateLimiter;
+    private final Bulkhead bulkhead;
+    private final LoanSimulatorProperties.Stream properties;
+
+    public LoanSimulationStreamServiceImpl(LoanSimulatorService loanSimulatorService,
+                                           LoanSimulationRequestValidator requestValidator,
+                                           GlobalExceptionHandler exceptionHandler,
+                                           ObjectMapper objectMapper,
+                                           CircuitBreakerRegistry circuitBreakerRegistry,
+                                           RateLimiterRegistry rateLimiterRegistry,
+                                           BulkheadRegistry bulkheadRegistry,
+                                           LoanSimulatorProperties properties) {
+        this.loanSimulatorService = loanSimulatorService;
+        this.requestValidator = requestValidator;
+        this.exceptionHandler = exceptionHandler;
+        this.requestReader = objectMapper.readerFor(LoanSimulationRequest.class);
+        this.recordWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE_NAME);
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(INSTANCE_NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE_NAME);
+        this.properties = properties.getStream();
+    }
+
+    @Override
+    public void simulateStream(InputStream input, OutputStream output) throws IOException {
+        RecordReader reader = new RecordReader(input, properties.getMaxRecordBytes());
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        List<ParsedRecord> chunk = new ArrayList<>(chunkSize);
+        try (JsonGenerator generator = recordWriter.createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            int index = 0;
+            while (this.readChunk(reader, chunk, index, chunkSize)) {
+                for (Object result : this.simulateChunk(chunk)) {
+                    recordWriter.writeValue(generator, result);
+                    generator.writeRaw((char) NEWLINE);
+                }
+                generator.flush();
+                index += chunk.size();
+                chunk.clear();
+            }
+        }
+    }
+
+    /**
+     * Fills {@code chunk} with up to {@code chunkSize} non-blank records, parsed and validated. Returns whether any
+     * record was read.
+     */
+    private boolean readChunk(RecordReader reader, List<ParsedRecord> chunk, int firstIndex, int chunkSize) throws IOException {
+        int length;
+        while (chunk.size() < chunkSize && (length = reader.next()) != RecordReader.END) {
+            if (length == 0) {
+                continue;
+            }
+            int index = firstIndex + chunk.size();
+            try {
+                if (length == RecordReader.TOO_LONG) {
+                    throw new LoanSimulationException("Record exceeds " + properties.getMaxRecordBytes() + " bytes");
+                }
+                LoanSimulationRequest request = this.parse(reader.buffer(), length);
+                requestValidator.validate(request);
+                chunk.add(new ParsedRecord(index, request, null));
+            } catch (Exception e) {
+                chunk.add(new ParsedRecord(index, null, e));
+            }
+        }
+        return !chunk.isEmpty();
+    }
+
+    private List<Object> simulateChunk(List<ParsedRecord> chunk) {
+        Supplier<List<Object>> simulation = () -> chunk.stream().map(this::simulateRecord).toList();
+        try {
+            return CircuitBreaker.decorateSupplier(circuitBreaker,
+                    RateLimiter.decorateSupplier(rateLimiter,
+                            Bulkhead.decorateSupplier(bulkhead, simulation))).get();
+        } catch (Exception e) {
+            return chunk.stream().map(record -> record.error() == null ? this.toErrorItem(record.index(), e) : this.simulateRecord(record)).toList();
+        }
+    }
+
+    private Object simulateRecord(ParsedRecord record) {
+        if (record.error() != null) {
+            return this.toErrorItem(record.index(), record.error());
+        }
+        long start = System.nanoTime();
+        try {
+            return loanSimulatorService.computeSimulation(record.request());
+        } catch (LoanValidationException e) {
+            return this.toErrorItem(record.index(), e);
+        } catch (Exception e) {
+            if (!circuitBreaker.getCircuitBreakerConfig().getIgnoreExceptionPredicate().test(e)) {
+                circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            }
+            return this.toErrorItem(record.index(), e);
+        }
+    }
+
+    private LoanSimulationBatchItemResponse toErrorItem(int index, Exception ex) {
+        ResponseEntity<ErrorResponse> response = exceptionHandler.resolve(ex);
+        return LoanSimulationBatchItemResponse.builder()
+                .index(index)
+                .status(response.getStatusCode().value())
+                .error(response.getBody().getBody().getDetail())
+                .build();
+    }
+
+    private LoanSimulationRequest parse(byte[] buffer, int length) {
+        try {
+            return requestReader.readValue(buffer, 0, length);
+        } catch (JsonProcessingException e) {
+            throw new LoanSimulationException("Malformed simulation record", e);
+        } catch (IOException e) {
+            throw new LoanSimulationException("Unreadable simulation record", e);
+        }
+    }
+
+    /**
+     * A record ready to simulate, or the reason it cannot be.
+     */
+    private record ParsedRecord(int index, LoanSimulationRequest request, Exception error) {
+    }
+
+    /**
+     * Splits the input on {@code '\n'} into a single reusable buffer. A record longer than the buffer is drained up
+     * to its newline and reported as {@link #TOO_LONG}, so an oversized line cannot grow memory.
+     */
+    static final class RecordReader {
+        static final int END = -1;
+        static final int TOO_LONG = -2;
+
+        private final InputStream input;
+        private final byte[] record;
+        private final byte[] chunk = new byte[8192];
+        private int chunkPosition;
+        private int chunkLimit;
+
+        RecordReader(InputStream input, int maxRecordBytes) {
+            this.input = input;
+            this.record = new byte[maxRecordBytes];
+        }
+
+        byte[] buffer() {
+            return record;
+        }
+
+        int next() throws IOException {
+            int length = 0;
+            boolean overflow = false;
+            boolean sawData = false;
+            while (true) {
+                if (chunkPosition == chunkLimit) {
+                    chunkLimit = input.read(chunk);
+                    chunkPosition = 0;
+                    if (chunkLimit <= 0) {
+                        chunkLimit = 0;
+                        if (!sawData) {
+                            return END;
+                        }
+                        return overflow ? TOO_LONG : this.trim(length);
+                    }
+                }
+                sawData = true;
+                byte b = chunk[chunkPosition++];
+                if (b == NEWLINE) {
+                    return overflow ? TOO_LONG : this.trim(length);
+                } else if (length < record.length) {
+                    record[length++] = b;
+                } else {
+                    overflow = true;
+                }
+            }
+        }
+
+        private int trim(int length) {
+            while (length > 0 && (record[length - 1] == '\r' || record[length - 1] == ' ' || record[length - 1] == '\t')) {
+                length--;
+            }
+            return length;
+        }
+    }
+}
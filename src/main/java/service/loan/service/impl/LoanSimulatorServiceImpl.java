@@ -4,81 +4,160 @@ import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.github.resilience4j.retry.annotation.Retry;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import service.loan.exception.LoanSimulationException;
+import service.loan.exception.LoanValidationException;
 import service.loan.model.LoanSimulationRequest;
 import service.loan.model.LoanSimulationResponse;
 import service.loan.service.LoanSimulatorService;
+import service.loan.service.engine.AnnuityFactorTable;
+import service.loan.service.execution.SimulationDispatcher;
+import service.loan.service.history.SimulationHistoryRecorder;
+import service.loan.service.limit.AdaptiveConcurrencyLimit;
+import service.loan.service.metrics.SimulationMetrics;
+import service.loan.service.metrics.SimulationStage;
+import service.loan.service.metrics.TimedSimulation;
+import service.loan.service.rate.InterestRateBands;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.Period;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
 
 @Service
 public class LoanSimulatorServiceImpl implements LoanSimulatorService {
-    private static final Logger log = LoggerFactory.getLogger(LoanSimulatorServiceImpl.class);
     private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_EVEN;
+    private static final LoanValidationException LOAN_AMOUNT_NOT_POSITIVE = new LoanValidationException("Loan amount must be greater than zero");
+    private static final LoanValidationException PAYMENT_TERM_NOT_POSITIVE = new LoanValidationException("Payment term must be greater than zero");
+    private static final LoanValidationException BIRTH_DATE_IN_FUTURE = new LoanValidationException("Birth date cannot be in the future");
 
+    private final AnnuityFactorTable annuityFactorTable;
+    private final InterestRateBands interestRateBands;
+    private final SimulationDispatcher simulationDispatcher;
+    private final SimulationMetrics simulationMetrics;
+    private final SimulationHistoryRecorder simulationHistoryRecorder;
+
+    @Autowired
+    public LoanSimulatorServiceImpl(AnnuityFactorTable annuityFactorTable, InterestRateBands interestRateBands, SimulationDispatcher simulationDispatcher,
+                                    SimulationMetrics simulationMetrics, SimulationHistoryRecorder simulationHistoryRecorder) {
+        this.annuityFactorTable = annuityFactorTable;
+        this.interestRateBands = interestRateBands;
+        this.simulationDispatcher = simulationDispatcher;
+        this.simulationMetrics = simulationMetrics;
+        this.simulationHistoryRecorder = simulationHistoryRecorder;
+    }
+
+    public LoanSimulatorServiceImpl(AnnuityFactorTable annuityFactorTable, InterestRateBands interestRateBands, SimulationDispatcher simulationDispatcher) {
+        this(annuityFactorTable, interestRateBands, simulationDispatcher, SimulationMetrics.disabled(), (request, response) -> {
+        });
+    }
+
+    @TimedSimulation
     @CircuitBreaker(name = "loanSimulation")
     @RateLimiter(name = "loanSimulation")
     @Bulkhead(name = "loanSimulation")
     @Retry(name = "loanSimulation")
+    @AdaptiveConcurrencyLimit
     @Override
     public LoanSimulationResponse simulateLoan(LoanSimulationRequest request) {
+        return this.simulate(request, null);
+    }
+
+    /**
+     * {@link #simulateLoan(LoanSimulationRequest)} at an annual rate the caller already resolved for the request's
+     * birth date, under the same aspects. Lets the result cache store the response under the rate it was computed at,
+     * even if the rate bands change in between.
+     */
+    @TimedSimulation
+    @CircuitBreaker(name = "loanSimulation")
+    @RateLimiter(name = "loanSimulation")
+    @Bulkhead(name = "loanSimulation")
+    @Retry(name = "loanSimulation")
+    @AdaptiveConcurrencyLimit
+    public LoanSimulationResponse simulateLoan(LoanSimulationRequest request, BigDecimal annualInterestRate) {
+        return this.simulate(request, annualInterestRate);
+    }
+
+    private LoanSimulationResponse simulate(LoanSimulationRequest request, BigDecimal annualInterestRate) {
+        SimulationMetrics.SampledCall call = simulationMetrics.currentCall();
+        if (call == null) {
+            this.validateRequest(request);
+            LoanSimulationResponse response = simulationDispatcher.dispatch(() -> this.calculate(request, annualInterestRate, null));
+            simulationHistoryRecorder.record(request, response);
+            return response;
+        }
+        long start = System.nanoTime();
         try {
             this.validateRequest(request);
-            CompletableFuture<BigDecimal> annualInterestRateFuture = CompletableFuture.supplyAsync(() -> this.calculateAnnualInterestRate(request.getBirthDate()));
-            CompletableFuture<BigDecimal> monthlyInterestRateFuture = annualInterestRateFuture.thenApply((rate) -> rate.divide(BigDecimal.valueOf(12L), 10, ROUNDING_MODE));
-            CompletableFuture<BigDecimal> monthlyPaymentFuture = monthlyInterestRateFuture.thenApply((monthlyRate) -> this.calculateMonthlyPayment(request.getLoanAmount(), monthlyRate, request.getPaymentTermInMonths()));
-            CompletableFuture<BigDecimal> totalAmountFuture = monthlyPaymentFuture.thenApply((monthlyPaymentx) -> monthlyPaymentx.multiply(BigDecimal.valueOf((long) request.getPaymentTermInMonths())).setScale(2, ROUNDING_MODE));
-            CompletableFuture<BigDecimal> totalInterestFuture = totalAmountFuture.thenApply((totalAmountx) -> totalAmountx.subtract(request.getLoanAmount()).setScale(2, ROUNDING_MODE));
-            BigDecimal annualInterestRate = annualInterestRateFuture.get();
-            BigDecimal monthlyPayment = monthlyPaymentFuture.get();
-            BigDecimal totalAmount = totalAmountFuture.get();
-            BigDecimal totalInterest = totalInterestFuture.get();
-            return LoanSimulationResponse.builder().monthlyPayment(monthlyPayment.setScale(2, ROUNDING_MODE)).totalAmount(totalAmount).totalInterest(totalInterest).annualInterestRate(annualInterestRate.multiply(BigDecimal.valueOf(100L)).setScale(2, ROUNDING_MODE)).build();
-        } catch (ExecutionException | InterruptedException e) {
-            log.error("Error during loan simulation calculation", e);
-            Thread.currentThread().interrupt();
-            throw new LoanSimulationException("Error calculating loan simulation", e);
+            long validated = System.nanoTime();
+            simulationMetrics.record(SimulationStage.VALIDATION, validated - start);
+            LoanSimulationResponse response = simulationDispatcher.dispatch(() -> this.calculate(request, annualInterestRate, call));
+            simulationMetrics.record(SimulationStage.DISPATCH, System.nanoTime() - validated - call.getCalculationNanos());
+            simulationHistoryRecorder.record(request, response);
+            return response;
+        } finally {
+            call.addMethodTime(System.nanoTime() - start);
         }
     }
 
+    @Override
+    public LoanSimulationResponse computeSimulation(LoanSimulationRequest request) {
+        this.validateRequest(request);
+        LoanSimulationResponse response = this.calculate(request, null, null);
+        simulationHistoryRecorder.record(request, response);
+        return response;
+    }
+
+    /**
+     * For a sampled call, records the rate-lookup and payment stages and stores their combined time in the call, so
+     * the caller can tell the calculation apart from the hand-off to the dispatcher's thread. A {@code null} rate is
+     * looked up from the birth date. The caller records the quote in the history once this returns, so that a full
+     * history queue surfaces as {@code SimulationHistoryUnavailableException} instead of being wrapped by the dispatcher.
+     */
+    private LoanSimulationResponse calculate(LoanSimulationRequest request, BigDecimal resolvedRate, SimulationMetrics.SampledCall call) {
+        long start = call == null ? 0L : System.nanoTime();
+        BigDecimal annualInterestRate = resolvedRate != null ? resolvedRate : this.calculateAnnualInterestRate(request.getBirthDate());
+        long rateFound = call == null ? 0L : System.nanoTime();
+        BigDecimal monthlyInterestRate = AnnuityFactorTable.monthlyRate(annualInterestRate);
+        BigDecimal monthlyPayment = this.calculateMonthlyPayment(request.getLoanAmount(), monthlyInterestRate, request.getPaymentTermInMonths());
+        LoanSimulationResponse response = buildResponse(request.getLoanAmount(), request.getPaymentTermInMonths(), annualInterestRate, monthlyPayment);
+        simulationMetrics.countSimulation(annualInterestRate, request.getPaymentTermInMonths());
+        if (call != null) {
+            long finished = System.nanoTime();
+            simulationMetrics.record(SimulationStage.RATE_LOOKUP, rateFound - start);
+            simulationMetrics.record(SimulationStage.PAYMENT, finished - rateFound);
+            call.setCalculationNanos(finished - start);
+        }
+        return response;
+    }
+
     @Override
     public void validateRequest(LoanSimulationRequest request) {
         if (request.getLoanAmount().compareTo(BigDecimal.ZERO) <= 0) {
-            throw new LoanSimulationException("Loan amount must be greater than zero");
+            throw LOAN_AMOUNT_NOT_POSITIVE;
         } else if (request.getPaymentTermInMonths() <= 0) {
-            throw new LoanSimulationException("Payment term must be greater than zero");
+            throw PAYMENT_TERM_NOT_POSITIVE;
         } else if (request.getBirthDate().isAfter(LocalDate.now())) {
-            throw new LoanSimulationException("Birth date cannot be in the future");
+            throw BIRTH_DATE_IN_FUTURE;
         }
     }
 
     @Override
     public BigDecimal calculateAnnualInterestRate(LocalDate birthDate) {
-        int age = Period.between(birthDate, LocalDate.now()).getYears();
-        if (age <= 25) {
-            return BigDecimal.valueOf(0.05);
-        } else if (age <= 40) {
-            return BigDecimal.valueOf(0.03);
-        } else {
-            return age <= 60 ? BigDecimal.valueOf(0.02) : BigDecimal.valueOf(0.04);
-        }
+        return interestRateBands.annualRateForBirthDate(birthDate);
     }
 
     @Override
     public BigDecimal calculateMonthlyPayment(BigDecimal loanAmount, BigDecimal monthlyInterestRate, int termInMonths) {
-        BigDecimal onePlusRate = BigDecimal.ONE.add(monthlyInterestRate);
-        BigDecimal rateFactorPow = onePlusRate.pow(termInMonths);
-        BigDecimal numerator = monthlyInterestRate.multiply(rateFactorPow);
-        BigDecimal denominator = rateFactorPow.subtract(BigDecimal.ONE);
-        return loanAmount.multiply(numerator.divide(denominator, 10, ROUNDING_MODE));
+        return loanAmount.multiply(annuityFactorTable.annuityFactor(monthlyInterestRate, termInMonths));
     }
 
+    /**
+     * Rounds an unrounded monthly payment into a response. Shared with the grid so that every cell matches
+     * {@link #simulateLoan} for the same amount and term.
+     */
+    static LoanSimulationResponse buildResponse(BigDecimal loanAmount, int termInMonths, BigDecimal annualInterestRate, BigDecimal monthlyPayment) {
+        BigDecimal totalAmount = monthlyPayment.multiply(BigDecimal.valueOf((long) termInMonths)).setScale(2, ROUNDING_MODE);
+        BigDecimal totalInterest = totalAmount.subtract(loanAmount).setScale(2, ROUNDING_MODE);
+        return LoanSimulationResponse.builder().monthlyPayment(monthlyPayment.setScale(2, ROUNDING_MODE)).totalAmount(totalAmount).totalInterest(totalInterest).annualInterestRate(annualInterestRate.multiply(BigDecimal.valueOf(100L)).setScale(2, ROUNDING_MODE)).build();
+    }
 }
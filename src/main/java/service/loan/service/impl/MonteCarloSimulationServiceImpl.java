@@ -0,0 +1,133 @@
+package service.loan.service.impl;
+
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.exception.LoanValidationException;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.MeanRevertingRateModel;
+import service.loan.model.MonteCarloSimulationRequest;
+import service.loan.model.MonteCarloSimulationResponse;
+import service.loan.model.Percentiles;
+import service.loan.model.RateBand;
+import service.loan.service.LoanSimulatorService;
+import service.loan.service.MonteCarloSimulationService;
+import service.loan.service.montecarlo.RatePathModel;
+import service.loan.service.montecarlo.RatePathTask;
+import service.loan.service.rate.InterestRateBands;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+@Service
+public class MonteCarloSimulationServiceImpl implements MonteCarloSimulationService {
+    private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_EVEN;
+
+    private final LoanSimulatorService loanSimulatorService;
+    private final InterestRateBands interestRateBands;
+    private final ForkJoinPool pool;
+    private final LoanSimulatorProperties.MonteCarlo properties;
+
+    public MonteCarloSimulationServiceImpl(LoanSimulatorService loanSimulatorService,
+                                           InterestRateBands interestRateBands,
+                                           @Qualifier("monteCarloPool") ForkJoinPool pool,
+                                           LoanSimulatorProperties properties) {
+        this.loanSimulatorService = loanSimulatorService;
+        this.interestRateBands = interestRateBands;
+        this.pool = pool;
+        this.properties = properties.getMonteCarlo();
+    }
+
+    /**
+     * Runs on a dedicated fork/join pool so that a large run cannot starve the common pool, and takes a single
+     * rate-limiter and bulkhead permit.
+     */
+    @RateLimiter(name = "loanSimulation")
+    @Bulkhead(name = "loanSimulation")
+    @Override
+    public MonteCarloSimulationResponse simulate(MonteCarloSimulationRequest request) {
+        loanSimulatorService.validateRequest(LoanSimulationRequest.builder()
+                .loanAmount(request.getLoanAmount())
+                .paymentTermInMonths(request.getPaymentTermInMonths())
+                .birthDate(request.getBirthDate())
+                .build());
+        MeanRevertingRateModel rateModel = request.getRateModel();
+        int paths = rateModel.getPaths();
+        if (paths > properties.getMaxPaths()) {
+            throw new LoanValidationException("Paths must not exceed " + properties.getMaxPaths());
+        }
+        if ((long) paths * request.getPaymentTermInMonths() > properties.getMaxPathMonths()) {
+            throw new LoanValidationException("Paths x term must not exceed " + properties.getMaxPathMonths());
+        }
+        if (rateModel.getLongTermRate() != null) {
+            this.validateLongTermRate(rateModel.getLongTermRate());
+        }
+
+        BigDecimal initialRate = loanSimulatorService.calculateAnnualInterestRate(request.getBirthDate());
+        BigDecimal longTermRate = rateModel.getLongTermRate() != null ? rateModel.getLongTermRate() : initialRate;
+        RatePathModel model = new RatePathModel(request.getLoanAmount().doubleValue(), request.getPaymentTermInMonths(),
+                initialRate.doubleValue(), longTermRate.doubleValue(),
+                rateModel.getMeanReversion().doubleValue(), rateModel.getVolatility().doubleValue());
+
+        double[] averagePayments = new double[paths];
+        double[] peakPayments = new double[paths];
+        double[] totalInterests = new double[paths];
+        pool.invoke(new RatePathTask(model, new SplittableRandom(rateModel.getSeed()), averagePayments, peakPayments, totalInterests));
+
+        double interestSum = 0.0;
+        for (int path = 0; path < paths; path++) {
+            if (!Double.isFinite(averagePayments[path]) || !Double.isFinite(peakPayments[path]) || !Double.isFinite(totalInterests[path])) {
+                throw new LoanValidationException("Rate model diverges; lower the volatility or the mean reversion");
+            }
+            interestSum += totalInterests[path];
+        }
+        return MonteCarloSimulationResponse.builder()
+                .paths(paths)
+                .seed(rateModel.getSeed())
+                .initialAnnualInterestRate(initialRate.multiply(BigDecimal.valueOf(100L)).setScale(2, ROUNDING_MODE))
+                .monthlyPayment(percentiles(averagePayments))
+                .peakMonthlyPayment(percentiles(peakPayments))
+                .totalInterest(percentiles(totalInterests))
+                .expectedTotalInterest(money(interestSum / paths))
+                .build();
+    }
+
+    private void validateLongTermRate(BigDecimal longTermRate) {
+        BigDecimal lowest = null;
+        BigDecimal highest = null;
+        for (RateBand band : interestRateBands.getBands()) {
+            BigDecimal rate = band.getAnnualRate();
+            lowest = lowest == null || rate.compareTo(lowest) < 0 ? rate : lowest;
+            highest = highest == null || rate.compareTo(highest) > 0 ? rate : highest;
+        }
+        if (longTermRate.compareTo(lowest) < 0 || longTermRate.compareTo(highest) > 0) {
+            throw new LoanValidationException("Long-term rate must be between " + lowest + " and " + highest);
+        }
+    }
+
+    /**
+     * Nearest-rank percentiles. Sorts {@code values} in place.
+     */
+    private static Percentiles percentiles(double[] values) {
+        Arrays.sort(values);
+        return Percentiles.builder()
+                .p5(money(nearestRank(values, 5)))
+                .p50(money(nearestRank(values, 50)))
+                .p95(money(nearestRank(values, 95)))
+                .build();
+    }
+
+    private static double nearestRank(double[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static BigDecimal money(double value) {
+        return BigDecimal.valueOf(value).setScale(2, ROUNDING_MODE);
+    }
+}
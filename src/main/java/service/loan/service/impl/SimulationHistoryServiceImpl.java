@@ -0,0 +1,60 @@
+package service.loan.service.impl;
+
+import org.springframework.stereotype.Service;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.exception.LoanSimulationException;
+import service.loan.model.SimulationHistoryEntry;
+import service.loan.service.SimulationHistoryService;
+import service.loan.service.history.HistoryRecord;
+import service.loan.service.history.SimulationHistoryLog;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.List;
+
+@Service
+public class SimulationHistoryServiceImpl implements SimulationHistoryService {
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final SimulationHistoryLog simulationHistoryLog;
+    private final LoanSimulatorProperties.History properties;
+
+    public SimulationHistoryServiceImpl(SimulationHistoryLog simulationHistoryLog, LoanSimulatorProperties properties) {
+        this.simulationHistoryLog = simulationHistoryLog;
+        this.properties = properties.getHistory();
+    }
+
+    @Override
+    public List<SimulationHistoryEntry> findHistory(Instant from, Instant to, BigDecimal minLoanAmount, BigDecimal maxLoanAmount, Integer limit) {
+        if (!properties.isEnabled()) {
+            throw new LoanSimulationException("Simulation history is disabled");
+        }
+        long fromMillis = from == null ? Long.MIN_VALUE : from.toEpochMilli();
+        long toMillis = to == null ? Long.MAX_VALUE : to.toEpochMilli();
+        if (fromMillis > toMillis) {
+            throw new LoanSimulationException("from must not be after to");
+        }
+        long minAmountCents = minLoanAmount == null ? Long.MIN_VALUE : toCents(minLoanAmount, RoundingMode.CEILING);
+        long maxAmountCents = maxLoanAmount == null ? Long.MAX_VALUE : toCents(maxLoanAmount, RoundingMode.FLOOR);
+        if (minLoanAmount != null && maxLoanAmount != null && minLoanAmount.compareTo(maxLoanAmount) > 0) {
+            throw new LoanSimulationException("minLoanAmount must not be greater than maxLoanAmount");
+        }
+        int max = properties.getMaxQueryResults();
+        int resolvedLimit = limit == null ? Math.min(DEFAULT_LIMIT, max) : limit;
+        if (resolvedLimit < 1 || resolvedLimit > max) {
+            throw new LoanSimulationException("limit must be between 1 and " + max);
+        }
+        return simulationHistoryLog.query(fromMillis, toMillis, minAmountCents, maxAmountCents, resolvedLimit).stream()
+                .map(HistoryRecord::toEntry)
+                .toList();
+    }
+
+    private static long toCents(BigDecimal amount, RoundingMode roundingMode) {
+        try {
+            return amount.setScale(2, roundingMode).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            return amount.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package service.loan.service.impl;
+
+import org.springframework.stereotype.Service;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.exception.SimulationJobNotFoundException;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.SimulationJob;
+import service.loan.model.SimulationJobStatus;
+import service.loan.service.LoanSimulatorService;
+import service.loan.service.SimulationJobService;
+import service.loan.service.overflow.SimulationJobQueue;
+import service.loan.service.overflow.SimulationJobStore;
+import service.loan.service.overflow.SyncCapacityProbe;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Service
+public class SimulationJobServiceImpl implements SimulationJobService {
+
+    private final LoanSimulatorService loanSimulatorService;
+    private final SimulationJobQueue simulationJobQueue;
+    private final SimulationJobStore simulationJobStore;
+    private final SyncCapacityProbe syncCapacityProbe;
+    private final boolean enabled;
+
+    public SimulationJobServiceImpl(LoanSimulatorService loanSimulatorService,
+                                    SimulationJobQueue simulationJobQueue,
+                                    SimulationJobStore simulationJobStore,
+                                    SyncCapacityProbe syncCapacityProbe,
+                                    LoanSimulatorProperties properties) {
+        this.loanSimulatorService = loanSimulatorService;
+        this.simulationJobQueue = simulationJobQueue;
+        this.simulationJobStore = simulationJobStore;
+        this.syncCapacityProbe = syncCapacityProbe;
+        this.enabled = properties.getOverflow().isEnabled();
+    }
+
+    @Override
+    public boolean isOverflowEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean shouldOverflow() {
+        return enabled && syncCapacityProbe.isSaturated();
+    }
+
+    /**
+     * Business validation runs before queuing, so that a queued job only fails for reasons that appear while it is
+     * processed.
+     */
+    @Override
+    public SimulationJob submit(LoanSimulationRequest request) {
+        loanSimulatorService.validateRequest(request);
+        SimulationJob job = SimulationJob.builder()
+                .jobId(UUID.randomUUID().toString())
+                .status(SimulationJobStatus.PENDING)
+                .submittedAt(Instant.now())
+                .request(request)
+                .build();
+        simulationJobStore.save(job);
+        try {
+            simulationJobQueue.sendMessage(job);
+        } catch (RuntimeException e) {
+            simulationJobStore.remove(job.getJobId());
+            throw e;
+        }
+        return job;
+    }
+
+    @Override
+    public SimulationJob getJob(String jobId) {
+        return simulationJobStore.find(jobId).orElseThrow(() -> new SimulationJobNotFoundException(jobId));
+    }
+}
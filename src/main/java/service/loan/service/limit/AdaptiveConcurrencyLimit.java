@@ -0,0 +1,15 @@
+package service.loan.service.limit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Guards a method with the {@link AdaptiveConcurrencyLimiter}: calls beyond the current limit are rejected with
+ * {@link service.loan.exception.ConcurrencyLimitExceededException}, and the latency of admitted calls drives the limit.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdaptiveConcurrencyLimit {
+}
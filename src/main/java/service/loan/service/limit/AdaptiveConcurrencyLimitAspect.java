@@ -0,0 +1,45 @@
+package service.loan.service.limit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import service.loan.exception.ConcurrencyLimitExceededException;
+import service.loan.exception.LoanSimulationException;
+
+/**
+ * Applies {@link AdaptiveConcurrencyLimit}. Ordered innermost, inside every Resilience4j aspect, so the measured
+ * latency is that of the simulation itself and not of retries or permit waits. The innermost of those, the bulkhead,
+ * runs at {@code LOWEST_PRECEDENCE - 1}; Resilience4j does not let that order be configured. Rejected requests release
+ * the permit without a sample, since they did no representative work.
+ */
+@Aspect
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class AdaptiveConcurrencyLimitAspect {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public AdaptiveConcurrencyLimitAspect(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Around("@annotation(service.loan.service.limit.AdaptiveConcurrencyLimit)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!limiter.tryAcquire()) {
+            throw new ConcurrencyLimitExceededException("Concurrency limit of " + limiter.getLimit() + " reached");
+        }
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            limiter.onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (LoanSimulationException e) {
+            limiter.onIgnore();
+            throw e;
+        } catch (Throwable e) {
+            limiter.onSuccess(System.nanoTime() - start);
+            throw e;
+        }
+    }
+}
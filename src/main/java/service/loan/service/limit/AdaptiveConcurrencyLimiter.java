@@ -0,0 +1,169 @@
+package service.loan.service.limit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import service.loan.config.LoanSimulatorProperties;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limit that follows the measured latency instead of a configured guess, in the style of TCP Vegas.
+ * Latency samples are averaged per window and compared with the no-load latency: {@code limit * (1 - noLoad / rtt)} is
+ * the number of calls waiting rather than working. While that queue is short the limit grows additively; once it
+ * exceeds its upper bound the limit shrinks multiplicatively. Past the knee latency rises with concurrency, so the
+ * limit settles just above it on any node size.
+ *
+ * <p>The no-load latency is the lowest window average seen. Every {@code probe-interval} windows the limit is halved
+ * for one window and the no-load latency is re-measured, so it can follow a workload that became slower.
+ *
+ * <p>Samples are added to striped counters without locking. Only the call that completes a window takes the lock, to
+ * read and reset the counters and adjust the limit. Samples that land while it does may count toward either window,
+ * which moves the average by a negligible amount.
+ */
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int windowSamples;
+    private final double backoffRatio;
+    private final int probeInterval;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+
+    private final LongAdder windowRttNanos = new LongAdder();
+    private final LongAdder windowCount = new LongAdder();
+    private final LongAccumulator windowMaxInflight = new LongAccumulator(Math::max, 0);
+    private final AtomicInteger samplesUntilRollover = new AtomicInteger();
+
+    private double estimatedLimit;
+    private long noLoadRttNanos;
+    private int windowsSinceProbe;
+    private int limitBeforeProbe;
+
+    public AdaptiveConcurrencyLimiter(LoanSimulatorProperties.Limiter properties) {
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.windowSamples = properties.getWindowSamples();
+        this.backoffRatio = properties.getBackoffRatio();
+        this.probeInterval = properties.getProbeInterval();
+        this.estimatedLimit = Math.clamp(properties.getInitialLimit(), minLimit, maxLimit);
+        this.limit = (int) estimatedLimit;
+        this.samplesUntilRollover.set(Math.max(windowSamples, limit));
+    }
+
+    /**
+     * Takes a permit if fewer than {@link #getLimit()} calls are in flight. Every successful acquire must be followed
+     * by exactly one {@link #onSuccess} or {@link #onIgnore}.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a permit and records the latency of the call it guarded.
+     */
+    public void onSuccess(long rttNanos) {
+        int inflightBefore = inflight.getAndDecrement();
+        this.sample(rttNanos, inflightBefore);
+    }
+
+    /**
+     * Releases a permit without a latency sample, for calls that failed before doing representative work.
+     */
+    public void onIgnore() {
+        inflight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("loan.simulation.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit of simulateLoan")
+                .register(registry);
+        Gauge.builder("loan.simulation.concurrency.inflight", this, AdaptiveConcurrencyLimiter::getInflight)
+                .description("Calls to simulateLoan currently holding a permit")
+                .register(registry);
+        FunctionCounter.builder("loan.simulation.concurrency.rejected", this, AdaptiveConcurrencyLimiter::getRejectedCount)
+                .description("Calls to simulateLoan rejected by the adaptive concurrency limit")
+                .register(registry);
+        Gauge.builder("loan.simulation.concurrency.no.load.rtt", this, limiter -> limiter.noLoadRttSeconds())
+                .description("Latency of simulateLoan without queueing, as last measured by the limiter")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    private synchronized double noLoadRttSeconds() {
+        return noLoadRttNanos / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private void sample(long rttNanos, int inflightAtRelease) {
+        windowRttNanos.add(rttNanos);
+        windowCount.increment();
+        windowMaxInflight.accumulate(inflightAtRelease);
+        if (samplesUntilRollover.decrementAndGet() == 0) {
+            this.rollover();
+        }
+    }
+
+    private synchronized void rollover() {
+        long count = Math.max(1, windowCount.sumThenReset());
+        long averageRttNanos = Math.max(1, windowRttNanos.sumThenReset() / count);
+        int maxInflight = (int) windowMaxInflight.getThenReset();
+
+        if (limitBeforeProbe > 0) {
+            noLoadRttNanos = averageRttNanos;
+            estimatedLimit = limitBeforeProbe;
+            limitBeforeProbe = 0;
+        } else if (noLoadRttNanos == 0 || averageRttNanos < noLoadRttNanos) {
+            noLoadRttNanos = averageRttNanos;
+        } else {
+            this.adjust(averageRttNanos, maxInflight);
+        }
+
+        if (++windowsSinceProbe >= probeInterval) {
+            windowsSinceProbe = 0;
+            limitBeforeProbe = (int) estimatedLimit;
+            limit = Math.max(minLimit, limitBeforeProbe / 2);
+        } else {
+            limit = (int) estimatedLimit;
+        }
+        samplesUntilRollover.set(Math.max(windowSamples, limit));
+    }
+
+    private void adjust(long averageRttNanos, int maxInflight) {
+        double queue = estimatedLimit * (1.0 - (double) noLoadRttNanos / averageRttNanos);
+        double log = Math.max(1.0, Math.log10(estimatedLimit));
+        if (queue > 6 * log) {
+            estimatedLimit = Math.max(minLimit, estimatedLimit * backoffRatio);
+        } else if (queue < 3 * log && maxInflight * 2 >= estimatedLimit) {
+            estimatedLimit = Math.min(maxLimit, estimatedLimit + log);
+        }
+    }
+}
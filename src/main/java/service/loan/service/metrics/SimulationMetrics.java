@@ -0,0 +1,221 @@
+package service.loan.service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import service.loan.config.LoanSimulatorProperties;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stage timers, allocation and rate/term counters for {@code simulateLoan}. Every meter is registered up front or
+ * once per rate, so recording needs no tag lookup. Distribution settings such as percentiles and histogram buckets
+ * come from {@code management.metrics.distribution}.
+ *
+ * <p>A histogram update costs several hundred nanoseconds, a sizeable share of a simulation, so timers and the
+ * allocation summary only see a sample of the calls, chosen by {@link SimulationMetricsInterceptor}. Their counts are
+ * therefore sample counts; {@code loan.simulation.count} counts every calculated simulation.
+ *
+ * <p>Allocation is read from {@link com.sun.management.ThreadMXBean} for the calling thread. The JVM does not report
+ * it for virtual threads, so {@code loan.simulation.allocated} is only registered when requests run on platform
+ * threads; calls that still land on a virtual thread, such as batch items, are left out of it.
+ */
+public class SimulationMetrics {
+    public static final String STAGE_TIMER = "loan.simulation.stage";
+    public static final String CALL_TIMER = "loan.simulation.call";
+    public static final String ALLOCATED_SUMMARY = "loan.simulation.allocated";
+    public static final String SIMULATIONS_COUNTER = "loan.simulation.count";
+
+    private final boolean enabled;
+    private final MeterRegistry registry;
+    private final Timer[] stageTimers;
+    private final Timer callTimer;
+    private final DistributionSummary allocatedBytes;
+    private final int[] termBucketBounds;
+    private final String[] termBucketTags;
+    private final ConcurrentMap<BigDecimal, Counter[]> countersByRate = new ConcurrentHashMap<>();
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final ThreadLocal<SampledCall> currentCall = new ThreadLocal<>();
+    private final double samplingProbability;
+
+    public SimulationMetrics(MeterRegistry registry, LoanSimulatorProperties.Metrics properties) {
+        this(registry, properties, true);
+    }
+
+    /**
+     * @param measureAllocation whether to register {@code loan.simulation.allocated}; pass {@code false} when
+     *                          requests run on virtual threads, where it would never record anything
+     */
+    public SimulationMetrics(MeterRegistry registry, LoanSimulatorProperties.Metrics properties, boolean measureAllocation) {
+        this.enabled = properties.isEnabled();
+        this.samplingProbability = properties.getSamplingProbability();
+        this.registry = registry;
+        SimulationStage[] stages = SimulationStage.values();
+        this.stageTimers = new Timer[stages.length];
+        for (SimulationStage stage : stages) {
+            stageTimers[stage.ordinal()] = Timer.builder(STAGE_TIMER)
+                    .description("Time spent in one stage of simulateLoan")
+                    .tag("stage", stage.tag())
+                    .register(registry);
+        }
+        this.callTimer = Timer.builder(CALL_TIMER)
+                .description("Whole simulateLoan call, including the resilience aspects")
+                .register(registry);
+        this.threadMXBean = measureAllocation ? allocationMXBean() : null;
+        this.allocatedBytes = threadMXBean == null ? null : DistributionSummary.builder(ALLOCATED_SUMMARY)
+                .description("Bytes allocated by the calling thread during one simulateLoan call")
+                .baseUnit("bytes")
+                .register(registry);
+        List<Integer> bounds = properties.getTermBuckets();
+        this.termBucketBounds = bounds.stream().mapToInt(Integer::intValue).sorted().toArray();
+        this.termBucketTags = termBucketTags(termBucketBounds);
+    }
+
+    /**
+     * Metrics that record nothing, for code built outside the Spring context.
+     */
+    public static SimulationMetrics disabled() {
+        LoanSimulatorProperties.Metrics properties = new LoanSimulatorProperties.Metrics();
+        properties.setEnabled(false);
+        return new SimulationMetrics(new CompositeMeterRegistry(), properties);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void record(SimulationStage stage, long nanos) {
+        if (enabled) {
+            stageTimers[stage.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Counts a calculated simulation by its annual rate (as a percentage) and term bucket.
+     */
+    public void countSimulation(BigDecimal annualInterestRate, int termInMonths) {
+        if (!enabled) {
+            return;
+        }
+        Counter[] counters = countersByRate.computeIfAbsent(annualInterestRate, this::registerCounters);
+        counters[this.termBucket(termInMonths)].increment();
+    }
+
+    /**
+     * Whether the next call should be timed, at the configured sampling probability.
+     */
+    public boolean shouldSample() {
+        return enabled && (samplingProbability >= 1.0 || ThreadLocalRandom.current().nextDouble() < samplingProbability);
+    }
+
+    /**
+     * The sampled call open on this thread, or {@code null} when the current call is not being timed.
+     */
+    public SampledCall currentCall() {
+        return currentCall.get();
+    }
+
+    SampledCall openCall() {
+        SampledCall call = new SampledCall();
+        currentCall.set(call);
+        return call;
+    }
+
+    /**
+     * Closes a call opened by {@link #openCall()} and records its total time, the part of it not spent in the method
+     * itself and, when allocation is measured for this thread, the bytes allocated since {@code allocatedBefore}.
+     */
+    void closeCall(SampledCall call, long totalNanos, long allocatedBefore) {
+        currentCall.remove();
+        callTimer.record(totalNanos, TimeUnit.NANOSECONDS);
+        stageTimers[SimulationStage.RESILIENCE.ordinal()].record(Math.max(0, totalNanos - call.methodNanos), TimeUnit.NANOSECONDS);
+        if (allocatedBefore >= 0) {
+            long allocatedAfter = this.currentThreadAllocatedBytes();
+            if (allocatedAfter >= allocatedBefore) {
+                allocatedBytes.record(allocatedAfter - allocatedBefore);
+            }
+        }
+    }
+
+    /**
+     * Bytes allocated so far by the calling thread, or {@code -1} when allocation is not measured or the JVM does not
+     * report it for this thread.
+     */
+    long currentThreadAllocatedBytes() {
+        return threadMXBean == null ? -1L : threadMXBean.getCurrentThreadAllocatedBytes();
+    }
+
+    private Counter[] registerCounters(BigDecimal annualInterestRate) {
+        String rate = annualInterestRate.movePointRight(2).setScale(2, RoundingMode.HALF_EVEN).toPlainString();
+        Counter[] counters = new Counter[termBucketTags.length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = Counter.builder(SIMULATIONS_COUNTER)
+                    .description("Calculated simulations by annual rate and term bucket")
+                    .tag("rate", rate)
+                    .tag("term", termBucketTags[i])
+                    .register(registry);
+        }
+        return counters;
+    }
+
+    private int termBucket(int termInMonths) {
+        for (int i = 0; i < termBucketBounds.length; i++) {
+            if (termInMonths <= termBucketBounds[i]) {
+                return i;
+            }
+        }
+        return termBucketBounds.length;
+    }
+
+    private static String[] termBucketTags(int[] bounds) {
+        String[] tags = new String[bounds.length + 1];
+        int lower = 1;
+        for (int i = 0; i < bounds.length; i++) {
+            tags[i] = lower + "-" + bounds[i];
+            lower = bounds[i] + 1;
+        }
+        tags[bounds.length] = lower + "+";
+        return tags;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean;
+        }
+        return null;
+    }
+
+    /**
+     * Timing state of one sampled call, handed to the calculation explicitly because it may run on another thread.
+     */
+    public static final class SampledCall {
+        private long methodNanos;
+        private long calculationNanos;
+
+        /**
+         * Adds time spent inside the timed method itself, so the rest of the call can be attributed to the aspects
+         * around it. A retried method adds once per attempt.
+         */
+        public void addMethodTime(long nanos) {
+            methodNanos += nanos;
+        }
+
+        public long getCalculationNanos() {
+            return calculationNanos;
+        }
+
+        public void setCalculationNanos(long calculationNanos) {
+            this.calculationNanos = calculationNanos;
+        }
+    }
+}
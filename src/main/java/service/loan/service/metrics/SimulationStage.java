@@ -0,0 +1,30 @@
+package service.loan.service.metrics;
+
+/**
+ * Stages of a single {@code simulateLoan} call, each published as the {@code stage} tag of
+ * {@code loan.simulation.stage}.
+ */
+public enum SimulationStage {
+    /** Request checks before any calculation. */
+    VALIDATION("validation"),
+    /** Looking up the annual rate for the birth date. */
+    RATE_LOOKUP("rate-lookup"),
+    /** Annuity factor and rounding of the response. */
+    PAYMENT("payment"),
+    /** Time spent handing the calculation to the dispatcher's thread and back, excluding the calculation itself. */
+    DISPATCH("dispatch"),
+    /** Time the Resilience4j aspects add around the method: permit waits, retries and their own bookkeeping. */
+    RESILIENCE("resilience"),
+    /** Writing the response body as JSON. */
+    SERIALIZATION("serialization");
+
+    private final String tag;
+
+    SimulationStage(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,38 @@
+package service.loan.service.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import service.loan.model.LoanSimulationResponse;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * The application's JSON converter, timing the serialization of {@link LoanSimulationResponse} bodies as the
+ * {@link SimulationStage#SERIALIZATION} stage, sampled like the other stages. Other bodies are written untimed.
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final SimulationMetrics metrics;
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, SimulationMetrics metrics) {
+        super(objectMapper);
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+        if (!(object instanceof LoanSimulationResponse) || !metrics.shouldSample()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            metrics.record(SimulationStage.SERIALIZATION, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package service.loan.service.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Times a sample of the calls as a whole, including every resilience aspect around them, and the bytes they
+ * allocate. See {@link SimulationMetricsInterceptor}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimedSimulation {
+}
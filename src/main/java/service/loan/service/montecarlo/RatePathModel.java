@@ -0,0 +1,8 @@
+package service.loan.service.montecarlo;
+
+/**
+ * Primitive inputs of one Monte Carlo run. Rates are annual, as fractions.
+ */
+public record RatePathModel(double loanAmount, int termInMonths, double initialRate, double longTermRate,
+                            double meanReversion, double volatility) {
+}
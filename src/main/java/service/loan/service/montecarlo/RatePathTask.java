@@ -0,0 +1,80 @@
+package service.loan.service.montecarlo;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Simulates paths {@code [from, to)} of a floating-rate annuity and writes each path's average payment, peak payment
+ * and total interest into the shared result arrays at the path's index. Ranges are halved until they are at most
+ * {@link #LEAF_PATHS} long; the right half always takes {@code random.split()} and the left half keeps
+ * {@code random}. The split tree depends only on the path count, so a seed gives the same numbers on any pool size.
+ *
+ * <p>Every month the payment is recast as the annuity of the outstanding balance over the remaining term at that
+ * month's rate, which is how a floating-rate loan re-prices.
+ */
+public class RatePathTask extends RecursiveAction {
+    static final int LEAF_PATHS = 128;
+    private static final double DT = 1.0 / 12.0;
+    private static final double SQRT_DT = Math.sqrt(DT);
+
+    private final RatePathModel model;
+    private final int from;
+    private final int to;
+    private final SplittableRandom random;
+    private final double[] averagePayments;
+    private final double[] peakPayments;
+    private final double[] totalInterests;
+
+    public RatePathTask(RatePathModel model, SplittableRandom random, double[] averagePayments, double[] peakPayments, double[] totalInterests) {
+        this(model, 0, averagePayments.length, random, averagePayments, peakPayments, totalInterests);
+    }
+
+    private RatePathTask(RatePathModel model, int from, int to, SplittableRandom random,
+                         double[] averagePayments, double[] peakPayments, double[] totalInterests) {
+        this.model = model;
+        this.from = from;
+        this.to = to;
+        this.random = random;
+        this.averagePayments = averagePayments;
+        this.peakPayments = peakPayments;
+        this.totalInterests = totalInterests;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= LEAF_PATHS) {
+            for (int path = from; path < to; path++) {
+                this.simulatePath(path);
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        RatePathTask right = new RatePathTask(model, mid, to, random.split(), averagePayments, peakPayments, totalInterests);
+        RatePathTask left = new RatePathTask(model, from, mid, random, averagePayments, peakPayments, totalInterests);
+        invokeAll(left, right);
+    }
+
+    private void simulatePath(int path) {
+        int term = model.termInMonths();
+        double drift = model.meanReversion() * DT;
+        double shock = model.volatility() * SQRT_DT;
+        double rate = model.initialRate();
+        double balance = model.loanAmount();
+        double paid = 0.0;
+        double peak = 0.0;
+        for (int month = 0; month < term; month++) {
+            double monthlyRate = Math.max(0.0, rate) / 12.0;
+            int remaining = term - month;
+            double payment = monthlyRate == 0.0
+                    ? balance / remaining
+                    : balance * monthlyRate / -Math.expm1(-remaining * Math.log1p(monthlyRate));
+            balance = balance * (1.0 + monthlyRate) - payment;
+            paid += payment;
+            peak = Math.max(peak, payment);
+            rate += drift * (model.longTermRate() - rate) + shock * random.nextGaussian();
+        }
+        averagePayments[path] = paid / term;
+        peakPayments[path] = peak;
+        totalInterests[path] = paid - model.loanAmount();
+    }
+}
@@ -0,0 +1,172 @@
+package service.loan.service.overflow;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.SimulationJob;
+import service.loan.model.SimulationJobStatus;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link InMemorySimulationJobQueue} whose messages survive a restart. Every sent message is appended, with its job, to
+ * a journal file and forced to disk before {@code sendMessage} returns, so a job is only accepted once it is on disk.
+ * Deletes are appended without forcing. On startup the journal is replayed and rewritten with the live messages only,
+ * which become visible again; it is rewritten the same way whenever deleted entries outnumber live ones.
+ *
+ * <p>Delivery is at least once: a job whose delete was not yet on disk when the process died runs again after the
+ * restart.
+ */
+public class FileSimulationJobQueue extends InMemorySimulationJobQueue implements Closeable {
+    static final String JOURNAL_FILE = "overflow-queue.ndjson";
+    private static final Logger log = LoggerFactory.getLogger(FileSimulationJobQueue.class);
+    private static final int MIN_COMPACTION_ENTRIES = 1024;
+
+    private final Path journal;
+    private final ObjectMapper objectMapper;
+    private final Map<String, JournalEntry> live = new LinkedHashMap<>();
+    private final List<SimulationJob> recoveredJobs;
+    private FileChannel channel;
+    private int deletedEntries;
+
+    public FileSimulationJobQueue(Path directory, int capacity, Duration visibilityTimeout, ObjectMapper objectMapper) throws IOException {
+        super(capacity, visibilityTimeout);
+        this.journal = directory.resolve(JOURNAL_FILE);
+        this.objectMapper = objectMapper;
+        Files.createDirectories(directory);
+        if (Files.exists(journal)) {
+            this.replay();
+        }
+        this.rewrite();
+        this.recoveredJobs = live.values().stream().map(JournalEntry::toJob).toList();
+        live.forEach((messageId, entry) -> this.restoreMessage(messageId, entry.toJob()));
+    }
+
+    /**
+     * Jobs of the messages recovered from the journal, in the order they were sent, so that they can be polled again.
+     */
+    public List<SimulationJob> recoveredJobs() {
+        return recoveredJobs;
+    }
+
+    @Override
+    protected void messageSent(String messageId, SimulationJob job) {
+        JournalEntry entry = new JournalEntry(JournalEntry.SEND, messageId, job.getJobId(), job.getSubmittedAt(), job.getRequest());
+        try {
+            this.append(entry, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot journal simulation job " + job.getJobId(), e);
+        }
+        live.put(messageId, entry);
+    }
+
+    @Override
+    protected void messageDeleted(String messageId) {
+        if (live.remove(messageId) == null) {
+            return;
+        }
+        try {
+            this.append(new JournalEntry(JournalEntry.DELETE, messageId, null, null, null), false);
+            deletedEntries++;
+            if (deletedEntries >= MIN_COMPACTION_ENTRIES && deletedEntries > live.size()) {
+                this.rewrite();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot journal the delete of message " + messageId, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Stops at the first line that cannot be read, which is a send or delete cut short by a crash.
+     */
+    private void replay() throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(journal)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                JournalEntry entry;
+                try {
+                    entry = objectMapper.readValue(line, JournalEntry.class);
+                } catch (JsonProcessingException e) {
+                    log.warn("Ignoring the unreadable tail of overflow journal {}", journal);
+                    break;
+                }
+                if (JournalEntry.SEND.equals(entry.op())) {
+                    live.put(entry.messageId(), entry);
+                } else {
+                    live.remove(entry.messageId());
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the journal with one holding only the live messages, then appends to the new file.
+     */
+    private void rewrite() throws IOException {
+        Path rewritten = journal.resolveSibling(JOURNAL_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(rewritten, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (JournalEntry entry : live.values()) {
+                this.write(out, entry);
+            }
+            out.force(true);
+        }
+        if (channel != null) {
+            channel.close();
+        }
+        Files.move(rewritten, journal, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(journal, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        deletedEntries = 0;
+    }
+
+    private void append(JournalEntry entry, boolean force) throws IOException {
+        this.write(channel, entry);
+        if (force) {
+            channel.force(false);
+        }
+    }
+
+    private void write(FileChannel out, JournalEntry entry) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(entry);
+        ByteBuffer line = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+        while (line.hasRemaining()) {
+            out.write(line);
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record JournalEntry(String op, String messageId, String jobId, Instant submittedAt, LoanSimulationRequest request) {
+        static final String SEND = "send";
+        static final String DELETE = "delete";
+
+        SimulationJob toJob() {
+            return SimulationJob.builder()
+                    .jobId(jobId)
+                    .status(SimulationJobStatus.PENDING)
+                    .submittedAt(submittedAt)
+                    .request(request)
+                    .build();
+        }
+    }
+}
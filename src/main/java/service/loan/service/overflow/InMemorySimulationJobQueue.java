@@ -0,0 +1,178 @@
+package service.loan.service.overflow;
+
+import service.loan.exception.SimulationQueueFullException;
+import service.loan.model.SimulationJob;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Local {@link SimulationJobQueue} with SQS delivery semantics: a received message is moved to an in-flight set and
+ * returns to the queue when its visibility timeout expires without a delete. Capacity counts both visible and in-flight
+ * messages. Messages do not survive a restart; {@link FileSimulationJobQueue} adds a journal through the
+ * {@link #messageSent} and {@link #messageDeleted} hooks.
+ */
+public class InMemorySimulationJobQueue implements SimulationJobQueue {
+
+    private final int capacity;
+    private final Duration visibilityTimeout;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition messagesAvailable = lock.newCondition();
+    private final ArrayDeque<Message> visible = new ArrayDeque<>();
+    private final Map<String, InFlight> inFlight = new HashMap<>();
+
+    public InMemorySimulationJobQueue(int capacity, Duration visibilityTimeout) {
+        this.capacity = capacity;
+        this.visibilityTimeout = visibilityTimeout;
+    }
+
+    @Override
+    public String sendMessage(SimulationJob job) {
+        lock.lock();
+        try {
+            if (visible.size() + inFlight.size() >= capacity) {
+                throw new SimulationQueueFullException("Simulation overflow queue is full");
+            }
+            Message message = new Message(UUID.randomUUID().toString(), job, 0);
+            this.messageSent(message.messageId(), job);
+            visible.addLast(message);
+            messagesAvailable.signal();
+            return message.messageId();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<QueuedSimulationJob> receiveMessages(int maxMessages, Duration waitTime) throws InterruptedException {
+        long deadline = System.nanoTime() + waitTime.toNanos();
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                long nextVisibleAt = this.restoreExpired(now);
+                if (!visible.isEmpty()) {
+                    return this.deliver(maxMessages, now);
+                }
+                long remaining = deadline - now;
+                if (remaining <= 0) {
+                    return List.of();
+                }
+                messagesAvailable.awaitNanos(Math.min(remaining, nextVisibleAt - now));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteMessage(String receiptHandle) {
+        lock.lock();
+        try {
+            InFlight removed = inFlight.remove(receiptHandle);
+            if (removed != null) {
+                this.messageDeleted(removed.message().messageId());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void changeMessageVisibility(String receiptHandle, Duration visibilityTimeout) {
+        lock.lock();
+        try {
+            InFlight current = inFlight.get(receiptHandle);
+            if (current != null) {
+                inFlight.put(receiptHandle, new InFlight(current.message(), System.nanoTime() + visibilityTimeout.toNanos()));
+                messagesAvailable.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int approximateNumberOfMessages() {
+        lock.lock();
+        try {
+            return visible.size() + inFlight.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Called under the queue lock before a sent message is added. Throwing refuses the message.
+     */
+    protected void messageSent(String messageId, SimulationJob job) {
+    }
+
+    /**
+     * Called under the queue lock once a message is deleted.
+     */
+    protected void messageDeleted(String messageId) {
+    }
+
+    /**
+     * Adds a message recovered from storage as a visible, never received message, without calling
+     * {@link #messageSent}.
+     */
+    protected void restoreMessage(String messageId, SimulationJob job) {
+        lock.lock();
+        try {
+            visible.addLast(new Message(messageId, job, 0));
+            messagesAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves in-flight messages whose visibility timeout has passed back to the queue and returns when the next one
+     * becomes visible.
+     */
+    private long restoreExpired(long now) {
+        long nextVisibleAt = now + TimeUnit.SECONDS.toNanos(1);
+        Iterator<InFlight> iterator = inFlight.values().iterator();
+        while (iterator.hasNext()) {
+            InFlight entry = iterator.next();
+            if (entry.visibleAt() - now <= 0) {
+                visible.addLast(entry.message());
+                iterator.remove();
+            } else if (entry.visibleAt() - nextVisibleAt < 0) {
+                nextVisibleAt = entry.visibleAt();
+            }
+        }
+        return nextVisibleAt;
+    }
+
+    private List<QueuedSimulationJob> deliver(int maxMessages, long now) {
+        List<QueuedSimulationJob> received = new ArrayList<>(Math.min(maxMessages, visible.size()));
+        while (received.size() < maxMessages && !visible.isEmpty()) {
+            Message message = visible.pollFirst().received();
+            String receiptHandle = UUID.randomUUID().toString();
+            inFlight.put(receiptHandle, new InFlight(message, now + visibilityTimeout.toNanos()));
+            received.add(new QueuedSimulationJob(message.messageId(), receiptHandle, message.job(), message.receiveCount()));
+        }
+        return received;
+    }
+
+    private record Message(String messageId, SimulationJob job, int receiveCount) {
+        Message received() {
+            return new Message(messageId, job, receiveCount + 1);
+        }
+    }
+
+    private record InFlight(Message message, long visibleAt) {
+    }
+}
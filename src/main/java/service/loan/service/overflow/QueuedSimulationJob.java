@@ -0,0 +1,16 @@
+package service.loan.service.overflow;
+
+import service.loan.model.SimulationJob;
+
+/**
+ * A message handed out by {@link SimulationJobQueue#receiveMessages}. The receipt handle identifies this delivery, not
+ * the message, and is what {@link SimulationJobQueue#deleteMessage} and
+ * {@link SimulationJobQueue#changeMessageVisibility} expect. The job is the pending one that was sent, request
+ * included, so it can run even once the job store no longer holds it.
+ */
+public record QueuedSimulationJob(String messageId, String receiptHandle, SimulationJob job, int receiveCount) {
+
+    public String jobId() {
+        return job.getJobId();
+    }
+}
@@ -0,0 +1,34 @@
+package service.loan.service.overflow;
+
+import service.loan.model.SimulationJob;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Queue of overflow simulation jobs, shaped after Amazon SQS so that a managed queue can replace the local one without
+ * touching the workers: received messages stay invisible for a visibility timeout and come back unless deleted.
+ */
+public interface SimulationJobQueue {
+
+    /**
+     * Enqueues a job, request included, and returns the message id.
+     *
+     * @throws service.loan.exception.SimulationQueueFullException if the queue cannot accept more messages
+     */
+    String sendMessage(SimulationJob job);
+
+    /**
+     * Waits up to {@code waitTime} for at least one visible message and returns up to {@code maxMessages} of them.
+     */
+    List<QueuedSimulationJob> receiveMessages(int maxMessages, Duration waitTime) throws InterruptedException;
+
+    void deleteMessage(String receiptHandle);
+
+    /**
+     * Makes a received message visible again after {@code visibilityTimeout}; zero returns it immediately.
+     */
+    void changeMessageVisibility(String receiptHandle, Duration visibilityTimeout);
+
+    int approximateNumberOfMessages();
+}
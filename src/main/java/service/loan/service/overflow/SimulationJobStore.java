@@ -0,0 +1,50 @@
+package service.loan.service.overflow;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.model.LoanSimulationResponse;
+import service.loan.model.SimulationJob;
+import service.loan.model.SimulationJobStatus;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Job states for polling, bounded in size and retained for {@code loan-simulator.overflow.job-retention} after the
+ * last update.
+ */
+@Component
+public class SimulationJobStore {
+
+    private final Cache<String, SimulationJob> jobs;
+
+    public SimulationJobStore(LoanSimulatorProperties properties) {
+        LoanSimulatorProperties.Overflow overflow = properties.getOverflow();
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(overflow.getMaxRetainedJobs())
+                .expireAfterWrite(overflow.getJobRetention())
+                .build();
+    }
+
+    public void save(SimulationJob job) {
+        jobs.put(job.getJobId(), job);
+    }
+
+    public Optional<SimulationJob> find(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId));
+    }
+
+    public void remove(String jobId) {
+        jobs.invalidate(jobId);
+    }
+
+    public void complete(SimulationJob job, LoanSimulationResponse result) {
+        this.save(job.toBuilder().status(SimulationJobStatus.COMPLETED).result(result).request(null).completedAt(Instant.now()).build());
+    }
+
+    public void fail(SimulationJob job, int errorStatus, String error) {
+        this.save(job.toBuilder().status(SimulationJobStatus.FAILED).errorStatus(errorStatus).error(error).request(null).completedAt(Instant.now()).build());
+    }
+}
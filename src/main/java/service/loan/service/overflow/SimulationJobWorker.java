@@ -0,0 +1,121 @@
+package service.loan.service.overflow;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.ErrorResponse;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.exception.ConcurrencyLimitExceededException;
+import service.loan.exception.GlobalExceptionHandler;
+import service.loan.model.SimulationJob;
+import service.loan.model.SimulationJobStatus;
+import service.loan.service.LoanSimulatorService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Drains the overflow queue through the same resilient {@link LoanSimulatorService#simulateLoan} as synchronous
+ * requests, so queued work consumes rate-limiter and bulkhead permits like any other call. A job refused a permit is
+ * left on the queue and retried after {@code retry-delay}; after {@code max-receive-count} deliveries it fails.
+ */
+@Component
+public class SimulationJobWorker implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(SimulationJobWorker.class);
+
+    private final SimulationJobQueue simulationJobQueue;
+    private final SimulationJobStore simulationJobStore;
+    private final LoanSimulatorService loanSimulatorService;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final LoanSimulatorProperties.Overflow properties;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public SimulationJobWorker(SimulationJobQueue simulationJobQueue,
+                               SimulationJobStore simulationJobStore,
+                               LoanSimulatorService loanSimulatorService,
+                               GlobalExceptionHandler exceptionHandler,
+                               LoanSimulatorProperties properties) {
+        this.simulationJobQueue = simulationJobQueue;
+        this.simulationJobStore = simulationJobStore;
+        this.loanSimulatorService = loanSimulatorService;
+        this.exceptionHandler = exceptionHandler;
+        this.properties = properties.getOverflow();
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            workers.add(Thread.ofVirtual().name("simulation-job-worker-" + i).start(this::drain));
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        workers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.isEnabled();
+    }
+
+    private void drain() {
+        while (running) {
+            try {
+                for (QueuedSimulationJob message : simulationJobQueue.receiveMessages(properties.getReceiveBatchSize(), properties.getRetryDelay().multipliedBy(5))) {
+                    this.process(message);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error draining the simulation overflow queue", e);
+            }
+        }
+    }
+
+    /**
+     * Runs the job carried by the message. A job the store no longer holds, evicted or expired while it waited, is
+     * run all the same and saved again with its result; one the store already holds as finished is a redelivery.
+     */
+    private void process(QueuedSimulationJob message) {
+        Optional<SimulationJob> stored = simulationJobStore.find(message.jobId());
+        if (stored.isPresent() && stored.get().getStatus() != SimulationJobStatus.PENDING) {
+            simulationJobQueue.deleteMessage(message.receiptHandle());
+            return;
+        }
+        SimulationJob job = message.job();
+        try {
+            simulationJobStore.complete(job, loanSimulatorService.simulateLoan(job.getRequest()));
+            simulationJobQueue.deleteMessage(message.receiptHandle());
+        } catch (RequestNotPermitted | BulkheadFullException | ConcurrencyLimitExceededException e) {
+            if (message.receiveCount() >= properties.getMaxReceiveCount()) {
+                this.fail(job, message, e);
+            } else {
+                simulationJobQueue.changeMessageVisibility(message.receiptHandle(), properties.getRetryDelay());
+            }
+        } catch (Exception e) {
+            this.fail(job, message, e);
+        }
+    }
+
+    private void fail(SimulationJob job, QueuedSimulationJob message, Exception e) {
+        ResponseEntity<ErrorResponse> response = exceptionHandler.resolve(e);
+        simulationJobStore.fail(job, response.getStatusCode().value(), response.getBody().getBody().getDetail());
+        simulationJobQueue.deleteMessage(message.receiptHandle());
+    }
+}
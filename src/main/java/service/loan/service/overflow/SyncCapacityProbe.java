@@ -0,0 +1,41 @@
+package service.loan.service.overflow;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.service.limit.AdaptiveConcurrencyLimiter;
+
+/**
+ * Reads how much of the {@code loanSimulation} rate-limiter, bulkhead and adaptive-limit capacity is in use, so that requests can be
+ * routed to the overflow queue before they would wait for, or be refused, a permit.
+ */
+@Component
+public class SyncCapacityProbe {
+    private static final String INSTANCE_NAME = "loanSimulation";
+
+    private final RateLimiter rateLimiter;
+    private final Bulkhead bulkhead;
+    private final AdaptiveConcurrencyLimiter adaptiveLimiter;
+    private final double threshold;
+
+    public SyncCapacityProbe(RateLimiterRegistry rateLimiterRegistry,
+                             BulkheadRegistry bulkheadRegistry,
+                             ObjectProvider<AdaptiveConcurrencyLimiter> adaptiveLimiter,
+                             LoanSimulatorProperties properties) {
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(INSTANCE_NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE_NAME);
+        this.adaptiveLimiter = adaptiveLimiter.getIfAvailable();
+        this.threshold = properties.getOverflow().getSyncCapacityThreshold();
+    }
+
+    public boolean isSaturated() {
+        double rateLimiterUsage = 1.0 - (double) rateLimiter.getMetrics().getAvailablePermissions() / rateLimiter.getRateLimiterConfig().getLimitForPeriod();
+        double bulkheadUsage = 1.0 - (double) bulkhead.getMetrics().getAvailableConcurrentCalls() / bulkhead.getMetrics().getMaxAllowedConcurrentCalls();
+        double adaptiveUsage = adaptiveLimiter == null ? 0.0 : (double) adaptiveLimiter.getInflight() / adaptiveLimiter.getLimit();
+        return Math.max(Math.max(rateLimiterUsage, bulkheadUsage), adaptiveUsage) >= threshold;
+    }
+}
@@ -0,0 +1,30 @@
+package service.loan.service.quota;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import service.loan.exception.QuotaExceededException;
+
+/**
+ * Charges each request to the client named in the configured header. A client over quota gets 429 before the request
+ * reaches the controller.
+ */
+public class ClientQuotaInterceptor implements HandlerInterceptor {
+    private static final QuotaExceededException QUOTA_EXCEEDED = new QuotaExceededException("Client quota exceeded");
+
+    private final ClientQuotaLimiter limiter;
+    private final String clientHeader;
+
+    public ClientQuotaInterceptor(ClientQuotaLimiter limiter, String clientHeader) {
+        this.limiter = limiter;
+        this.clientHeader = clientHeader;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!limiter.tryAcquire(request.getHeader(clientHeader))) {
+            throw QUOTA_EXCEEDED;
+        }
+        return true;
+    }
+}
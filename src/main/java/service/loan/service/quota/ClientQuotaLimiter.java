@@ -0,0 +1,175 @@
+package service.loan.service.quota;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import service.loan.config.LoanSimulatorProperties;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-client token buckets kept in a {@link TokenBucketStore} shared by all replicas. Each replica takes tokens from
+ * the store in small batches and hands them out locally, so most requests are decided without a store call. Unused
+ * tokens are dropped after {@code prefetch-ttl}, and a bucket found empty is not asked again until a batch has had
+ * time to refill, so a rejected client costs no store calls either. A replica can therefore run ahead of the shared
+ * bucket by at most one batch per client.
+ *
+ * <p>Clients listed in {@code clients} get their own bucket of their tier's size. Requests without a client id, or
+ * from an unknown client, share one bucket of the default tier, so inventing client ids gains nothing.
+ */
+public class ClientQuotaLimiter implements MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(ClientQuotaLimiter.class);
+    static final String ANONYMOUS = "anonymous";
+
+    private final TokenBucketStore store;
+    private final Clock clock;
+    private final long prefetchTtlMillis;
+    private final boolean failOpen;
+    private final ClientBucket anonymous;
+    private final Map<String, ClientBucket> clientBuckets = new HashMap<>();
+    private final LongAdder storeCalls = new LongAdder();
+    private final LongAdder storeErrors = new LongAdder();
+
+    public ClientQuotaLimiter(LoanSimulatorProperties.Quota properties, TokenBucketStore store) {
+        this(properties, store, Clock.systemUTC());
+    }
+
+    public ClientQuotaLimiter(LoanSimulatorProperties.Quota properties, TokenBucketStore store, Clock clock) {
+        this.store = store;
+        this.clock = clock;
+        this.prefetchTtlMillis = properties.getPrefetchTtl().toMillis();
+        this.failOpen = properties.isFailOpen();
+        this.anonymous = new ClientBucket(ANONYMOUS, "tier:" + properties.getDefaultTier(), properties.getDefaultTier(), properties);
+        properties.getClients().forEach((client, tier) -> clientBuckets.put(client, new ClientBucket(client, "client:" + client, tier, properties)));
+    }
+
+    /**
+     * Takes one token for the client, or returns false when its quota is used up.
+     */
+    public boolean tryAcquire(String clientId) {
+        ClientBucket bucket = clientId == null ? anonymous : clientBuckets.getOrDefault(clientId, anonymous);
+        boolean acquired = bucket.tryAcquire(clock.millis());
+        (acquired ? bucket.allowed : bucket.rejected).increment();
+        return acquired;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.bindBucket(anonymous, registry);
+        clientBuckets.values().forEach(bucket -> this.bindBucket(bucket, registry));
+        FunctionCounter.builder("loan.simulation.quota.store.calls", storeCalls, LongAdder::sum)
+                .description("Token batches requested from the quota store")
+                .register(registry);
+        FunctionCounter.builder("loan.simulation.quota.store.errors", storeErrors, LongAdder::sum)
+                .description("Failed quota store calls")
+                .register(registry);
+    }
+
+    private void bindBucket(ClientBucket bucket, MeterRegistry registry) {
+        FunctionCounter.builder("loan.simulation.quota.requests", bucket.allowed, LongAdder::sum)
+                .tags("client", bucket.client, "tier", bucket.tier, "result", "allowed")
+                .register(registry);
+        FunctionCounter.builder("loan.simulation.quota.requests", bucket.rejected, LongAdder::sum)
+                .tags("client", bucket.client, "tier", bucket.tier, "result", "rejected")
+                .register(registry);
+    }
+
+    private final class ClientBucket {
+        final String client;
+        final String key;
+        final String tier;
+        final long capacity;
+        final Duration refillPeriod;
+        final long batch;
+        final long batchRefillMillis;
+        final AtomicLong tokens = new AtomicLong();
+        final ReentrantLock lock = new ReentrantLock();
+        final LongAdder allowed = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        volatile long tokensExpireAt;
+        volatile long emptyUntil;
+        volatile long storeDownUntil;
+
+        ClientBucket(String client, String key, String tier, LoanSimulatorProperties.Quota properties) {
+            LoanSimulatorProperties.Tier limits = properties.getTiers().get(tier);
+            if (limits == null) {
+                throw new IllegalArgumentException("Unknown quota tier '" + tier + "' for client " + client);
+            }
+            this.client = client;
+            this.key = key;
+            this.tier = tier;
+            this.capacity = limits.getLimitForPeriod();
+            this.refillPeriod = limits.getLimitRefreshPeriod();
+            this.batch = Math.max(1L, Math.min(properties.getPrefetch(), (long) (capacity * properties.getMaxPrefetchShare())));
+            this.batchRefillMillis = Math.max(1L, (long) Math.ceil((double) batch * refillPeriod.toMillis() / capacity));
+        }
+
+        boolean tryAcquire(long now) {
+            if (this.takeLocal(now) || now < storeDownUntil) {
+                return true;
+            } else if (now < emptyUntil) {
+                return false;
+            }
+            lock.lock();
+            try {
+                if (this.takeLocal(now) || now < storeDownUntil) {
+                    return true;
+                } else if (now < emptyUntil) {
+                    return false;
+                }
+                long granted;
+                storeCalls.increment();
+                try {
+                    granted = store.take(key, batch, capacity, refillPeriod);
+                } catch (RuntimeException e) {
+                    return this.storeFailed(now, e);
+                }
+                if (granted == 0L) {
+                    emptyUntil = now + batchRefillMillis;
+                    return false;
+                }
+                tokens.set(granted - 1L);
+                tokensExpireAt = now + prefetchTtlMillis;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean takeLocal(long now) {
+            if (now >= tokensExpireAt) {
+                return false;
+            }
+            long available;
+            do {
+                available = tokens.get();
+                if (available <= 0L) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(available, available - 1L));
+            return true;
+        }
+
+        /**
+         * Lets every request through, or rejects every request, for {@code prefetch-ttl} before trying the store again.
+         */
+        private boolean storeFailed(long now, RuntimeException e) {
+            storeErrors.increment();
+            log.warn("Quota store call for {} failed, {} requests for {} ms: {}", key, failOpen ? "allowing" : "rejecting", prefetchTtlMillis, e.toString());
+            if (failOpen) {
+                storeDownUntil = now + prefetchTtlMillis;
+                return true;
+            }
+            emptyUntil = now + prefetchTtlMillis;
+            return false;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package service.loan.service.quota;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buckets of this replica only. A bucket is forgotten once it would have refilled, as a new one starts full anyway.
+ */
+public class InMemoryTokenBucketStore implements TokenBucketStore {
+    private final Clock clock;
+    private final Cache<String, Bucket> buckets;
+
+    public InMemoryTokenBucketStore() {
+        this(Clock.systemUTC());
+    }
+
+    public InMemoryTokenBucketStore(Clock clock) {
+        this.clock = clock;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfter(new UntilFull())
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .build();
+    }
+
+    @Override
+    public long take(String key, long requested, long capacity, Duration refillPeriod) {
+        long[] granted = new long[1];
+        buckets.asMap().compute(key, (k, bucket) -> {
+            long now = clock.millis();
+            double tokens = bucket == null ? capacity : bucket.tokensAt(now, capacity, refillPeriod);
+            granted[0] = Math.min(requested, (long) tokens);
+            return new Bucket(tokens - granted[0], now, capacity, refillPeriod);
+        });
+        return granted[0];
+    }
+
+    private record Bucket(double tokens, long updatedAtMillis, long capacity, Duration refillPeriod) {
+
+        double tokensAt(long nowMillis, long capacity, Duration refillPeriod) {
+            long elapsed = Math.max(0L, nowMillis - updatedAtMillis);
+            return Math.min(capacity, tokens + (double) elapsed * capacity / refillPeriod.toMillis());
+        }
+
+        long nanosUntilFull() {
+            return TimeUnit.MILLISECONDS.toNanos((long) Math.ceil((capacity - tokens) * refillPeriod.toMillis() / capacity));
+        }
+    }
+
+    private static final class UntilFull implements Expiry<String, Bucket> {
+
+        @Override
+        public long expireAfterCreate(String key, Bucket bucket, long currentTime) {
+            return bucket.nanosUntilFull();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Bucket bucket, long currentTime, long currentDuration) {
+            return bucket.nanosUntilFull();
+        }
+
+        @Override
+        public long expireAfterRead(String key, Bucket bucket, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
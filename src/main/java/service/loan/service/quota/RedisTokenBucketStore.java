@@ -0,0 +1,95 @@
+package service.loan.service.quota;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+
+import java.time.Duration;
+
+/**
+ * Buckets shared by every replica through Redis, or anything speaking its protocol and Lua scripting. Each bucket is a
+ * hash of its tokens and last update time, refilled and drawn from by one script, so concurrent replicas never lose an
+ * update. Time is taken from the Redis server, so replica clocks do not matter. A bucket expires once it would have
+ * refilled.
+ *
+ * <p>The connection is opened on first use, so the service starts while Redis is down; failures surface from
+ * {@link #take} and Lettuce reconnects in the background.
+ */
+public class RedisTokenBucketStore implements TokenBucketStore, AutoCloseable {
+    static final String SCRIPT = """
+            redis.replicate_commands()
+            local capacity = tonumber(ARGV[1])
+            local period = tonumber(ARGV[2])
+            local requested = tonumber(ARGV[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'at')
+            local tokens = tonumber(state[1])
+            if tokens == nil then
+              tokens = capacity
+            else
+              local elapsed = math.max(0, now - tonumber(state[2]))
+              tokens = math.min(capacity, tokens + elapsed * capacity / period)
+            end
+            local granted = math.min(requested, math.floor(tokens))
+            tokens = tokens - granted
+            redis.call('HSET', KEYS[1], 'tokens', string.format('%.17g', tokens), 'at', string.format('%.0f', now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil((capacity - tokens) * period / capacity / 1000) + 1)
+            return granted
+            """;
+
+    private final RedisClient client;
+    private final String keyPrefix;
+    private volatile StatefulRedisConnection<String, String> connection;
+    private volatile String scriptSha;
+
+    public RedisTokenBucketStore(String redisUri, Duration timeout, String keyPrefix) {
+        this.client = RedisClient.create(RedisURI.create(redisUri));
+        this.client.setDefaultTimeout(timeout);
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    public long take(String key, long requested, long capacity, Duration refillPeriod) {
+        RedisCommands<String, String> commands = this.connection().sync();
+        String[] keys = {keyPrefix + key};
+        String[] arguments = {Long.toString(capacity), Long.toString(refillPeriod.toNanos() / 1000L), Long.toString(requested)};
+        String sha = scriptSha;
+        if (sha != null) {
+            try {
+                return commands.<Long>evalsha(sha, ScriptOutputType.INTEGER, keys, arguments);
+            } catch (RedisNoScriptException e) {
+                // Script cache flushed or a failover to a replica that never saw it; EVAL below loads it again.
+            }
+        }
+        long granted = commands.<Long>eval(SCRIPT, ScriptOutputType.INTEGER, keys, arguments);
+        scriptSha = commands.digest(SCRIPT);
+        return granted;
+    }
+
+    private StatefulRedisConnection<String, String> connection() {
+        StatefulRedisConnection<String, String> current = connection;
+        if (current == null) {
+            synchronized (this) {
+                current = connection;
+                if (current == null) {
+                    current = client.connect();
+                    connection = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public void close() {
+        StatefulRedisConnection<String, String> current = connection;
+        if (current != null) {
+            current.close();
+        }
+        client.shutdown();
+    }
+}
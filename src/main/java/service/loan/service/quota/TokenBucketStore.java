@@ -0,0 +1,15 @@
+package service.loan.service.quota;
+
+import java.time.Duration;
+
+/**
+ * Holds token buckets that may be shared by several replicas. A bucket starts full with {@code capacity} tokens and
+ * refills continuously, at {@code capacity} tokens per {@code refillPeriod}.
+ */
+public interface TokenBucketStore {
+
+    /**
+     * Takes up to {@code requested} tokens from the bucket and returns how many were taken, possibly zero.
+     */
+    long take(String key, long requested, long capacity, Duration refillPeriod);
+}
@@ -0,0 +1,148 @@
+package service.loan.service.rate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import service.loan.exception.LoanValidationException;
+import service.loan.model.RateBand;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Holds the age bands that determine the annual interest rate. The band list is immutable and replaced as a whole,
+ * so readers never see a partially updated set.
+ *
+ * <p>For birth-date lookups the bands are turned into a per-day index: the earliest birth date of each band, as an
+ * epoch day, for the current local date. A lookup is then a binary search over a {@code long[]}, with no calendar
+ * arithmetic. The index is rebuilt by the first lookup after midnight, which is detected with a millisecond clock
+ * read, and whenever the bands are replaced.
+ */
+@Component
+public class InterestRateBands {
+    static final List<RateBand> DEFAULT_BANDS = List.of(
+            RateBand.builder().maxAge(25).annualRate(BigDecimal.valueOf(0.05)).build(),
+            RateBand.builder().maxAge(40).annualRate(BigDecimal.valueOf(0.03)).build(),
+            RateBand.builder().maxAge(60).annualRate(BigDecimal.valueOf(0.02)).build(),
+            RateBand.builder().maxAge(null).annualRate(BigDecimal.valueOf(0.04)).build());
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public InterestRateBands(ApplicationEventPublisher eventPublisher) {
+        this(eventPublisher, Clock.systemDefaultZone());
+    }
+
+    public InterestRateBands(ApplicationEventPublisher eventPublisher, Clock clock) {
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.snapshot = Snapshot.of(DEFAULT_BANDS, clock);
+    }
+
+    public List<RateBand> getBands() {
+        return snapshot.bands();
+    }
+
+    public BigDecimal annualRateForAge(int age) {
+        for (RateBand band : snapshot.bands()) {
+            if (band.getMaxAge() == null || age <= band.getMaxAge()) {
+                return band.getAnnualRate();
+            }
+        }
+        throw new LoanValidationException("No interest rate band covers age " + age);
+    }
+
+    /**
+     * Same result as {@code annualRateForAge(Period.between(birthDate, LocalDate.now()).getYears())}.
+     */
+    public BigDecimal annualRateForBirthDate(LocalDate birthDate) {
+        Snapshot current = snapshot;
+        if (clock.millis() >= current.validUntilMillis()) {
+            current = this.rollOver(current);
+        }
+        return current.annualRate(birthDate.toEpochDay());
+    }
+
+    public void replace(List<RateBand> newBands) {
+        validate(newBands);
+        Snapshot replacement = Snapshot.of(List.copyOf(newBands), clock);
+        synchronized (this) {
+            this.snapshot = replacement;
+        }
+        eventPublisher.publishEvent(new RateBandsChangedEvent(replacement.bands()));
+    }
+
+    private synchronized Snapshot rollOver(Snapshot expired) {
+        if (snapshot == expired) {
+            snapshot = Snapshot.of(expired.bands(), clock);
+        }
+        return snapshot;
+    }
+
+    private static void validate(List<RateBand> bands) {
+        if (bands == null || bands.isEmpty()) {
+            throw new IllegalArgumentException("At least one rate band is required");
+        }
+        int previousMaxAge = -1;
+        for (int i = 0; i < bands.size(); i++) {
+            RateBand band = bands.get(i);
+            if (band.getAnnualRate() == null || band.getAnnualRate().signum() <= 0) {
+                throw new IllegalArgumentException("Rate band " + i + " must have a positive annual rate");
+            }
+            boolean last = i == bands.size() - 1;
+            if (band.getMaxAge() == null) {
+                if (!last) {
+                    throw new IllegalArgumentException("Only the last rate band can be open-ended");
+                }
+            } else if (band.getMaxAge() <= previousMaxAge) {
+                throw new IllegalArgumentException("Rate bands must be sorted by increasing maxAge");
+            } else if (last) {
+                throw new IllegalArgumentException("The last rate band must be open-ended");
+            } else {
+                previousMaxAge = band.getMaxAge();
+            }
+        }
+    }
+
+    /**
+     * Bands plus their birth-date index for one local date. {@code cutoffs} holds, in ascending order, the last birth
+     * date (epoch day) that is too old for each closed band, oldest band first; a birth date after {@code c} of those
+     * cut-offs falls in band {@code closedBands - c}, whose rate is {@code ratesByCutoffsPassed[c]}.
+     */
+    private record Snapshot(List<RateBand> bands, long validUntilMillis, long[] cutoffs, BigDecimal[] ratesByCutoffsPassed) {
+
+        static Snapshot of(List<RateBand> bands, Clock clock) {
+            LocalDate today = LocalDate.now(clock);
+            int closedBands = bands.size() - 1;
+            long[] cutoffs = new long[closedBands];
+            BigDecimal[] rates = new BigDecimal[closedBands + 1];
+            rates[0] = bands.get(closedBands).getAnnualRate();
+            for (int c = 1; c <= closedBands; c++) {
+                RateBand band = bands.get(closedBands - c);
+                // Period.between(birthDate, today).getYears() > maxAge exactly when birthDate <= today - (maxAge + 1) years
+                cutoffs[c - 1] = today.minusYears(band.getMaxAge() + 1L).toEpochDay();
+                rates[c] = band.getAnnualRate();
+            }
+            long validUntil = today.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+            return new Snapshot(bands, validUntil, cutoffs, rates);
+        }
+
+        BigDecimal annualRate(long birthEpochDay) {
+            int low = 0;
+            int high = cutoffs.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cutoffs[mid] < birthEpochDay) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return ratesByCutoffsPassed[low];
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package service.loan.service.rate;
+
+import service.loan.model.RateBand;
+
+import java.util.List;
+
+/**
+ * Published after {@link InterestRateBands} switches to a new set of bands, so that anything derived from the rates
+ * can be rebuilt.
+ */
+public record RateBandsChangedEvent(List<RateBand> bands) {
+}
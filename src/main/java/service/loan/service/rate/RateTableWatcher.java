@@ -0,0 +1,150 @@
+package service.loan.service.rate;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.model.RateBand;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the rate bands from {@code loan-simulator.rates.file} at startup and reloads them when the file changes. The
+ * directory is watched rather than the file so that editors and deploy tools that replace the file by renaming a new
+ * one over it are picked up. A file that fails to parse or validate is logged and ignored, and the previous bands stay
+ * in force; only the startup load fails hard.
+ */
+@Component
+public class RateTableWatcher implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(RateTableWatcher.class);
+    private static final TypeReference<List<RateBand>> BANDS_TYPE = new TypeReference<>() {
+    };
+
+    private final InterestRateBands interestRateBands;
+    private final ObjectMapper objectMapper;
+    private final LoanSimulatorProperties.Rates properties;
+    private WatchService watchService;
+    private Thread watcher;
+    private volatile boolean running;
+
+    public RateTableWatcher(InterestRateBands interestRateBands, ObjectMapper objectMapper, LoanSimulatorProperties properties) {
+        this.interestRateBands = interestRateBands;
+        this.objectMapper = objectMapper;
+        this.properties = properties.getRates();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (properties.getFile() == null || properties.getFile().isBlank()) {
+            return;
+        }
+        Path file = Path.of(properties.getFile()).toAbsolutePath();
+        this.load(file);
+        running = true;
+        if (properties.isWatch()) {
+            try {
+                watchService = file.getFileSystem().newWatchService();
+                file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot watch rate table " + file, e);
+            }
+            watcher = Thread.ofPlatform().daemon().name("rate-table-watcher").start(() -> this.watch(file));
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.warn("Error closing rate table watcher", e);
+            }
+            watchService = null;
+        }
+        if (watcher != null) {
+            watcher.interrupt();
+            watcher = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts before the web server and the overflow workers, so that no request is priced with the built-in bands
+     * when a rate file is configured.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    private void load(Path file) {
+        List<RateBand> bands;
+        try {
+            bands = objectMapper.readValue(file.toFile(), BANDS_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read rate table " + file, e);
+        }
+        if (!bands.equals(interestRateBands.getBands())) {
+            interestRateBands.replace(bands);
+            log.info("Loaded {} rate bands from {}", bands.size(), file);
+        }
+    }
+
+    private void watch(Path file) {
+        WatchService service = watchService;
+        try {
+            while (running) {
+                WatchKey key = service.take();
+                boolean changed = this.touches(key, file);
+                // Collect the rest of a multi-step write before reloading once
+                while ((key = service.poll(properties.getReloadDelay().toMillis(), TimeUnit.MILLISECONDS)) != null) {
+                    changed |= this.touches(key, file);
+                }
+                if (changed) {
+                    this.reload(file);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // stopped
+        }
+    }
+
+    private boolean touches(WatchKey key, Path file) {
+        boolean touches = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context())) {
+                touches = true;
+            }
+        }
+        key.reset();
+        return touches;
+    }
+
+    private void reload(Path file) {
+        try {
+            this.load(file);
+        } catch (RuntimeException e) {
+            log.error("Ignoring invalid rate table {}; keeping the current bands", file, e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package service.loan.validation;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.ErrorResponse;
+import service.loan.exception.LoanValidationException;
+import service.loan.model.LoanSimulationRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+/**
+ * Checks a {@link LoanSimulationRequest} against its bean-validation constraints, in declaration order with the same
+ * "field: message" details, and then against the birth date rule of the simulation. Invalid requests are common, so
+ * the checks are plain comparisons and every distinct outcome maps to one {@link LoanValidationException}, and one
+ * 400 response carrying it, built up front: rejecting a request allocates nothing.
+ */
+@Component
+public class LoanSimulationRequestValidator {
+    private static final LoanValidationException REQUEST_REQUIRED = new LoanValidationException("Request is required");
+    private static final LoanValidationException BIRTH_DATE_IN_FUTURE = new LoanValidationException("Birth date cannot be in the future");
+
+    private static final String[] LOAN_AMOUNT_ERRORS = {null, "loanAmount: Loan amount is required", "loanAmount: Loan amount must be positive"};
+    private static final String[] BIRTH_DATE_ERRORS = {null, "birthDate: Birth date is required"};
+    private static final String[] PAYMENT_TERM_ERRORS = {null, "paymentTermInMonths: Payment term is required", "paymentTermInMonths: Payment term must be positive"};
+
+    /**
+     * Indexed by {@code (loanAmountError * BIRTH_DATE_ERRORS.length + birthDateError) * PAYMENT_TERM_ERRORS.length
+     * + paymentTermError}; index 0, no field errors, is null.
+     */
+    private static final LoanValidationException[] FIELD_REJECTIONS = fieldRejections();
+    private static final int REQUEST_REQUIRED_OUTCOME = FIELD_REJECTIONS.length;
+    private static final int BIRTH_DATE_IN_FUTURE_OUTCOME = FIELD_REJECTIONS.length + 1;
+
+    /**
+     * Indexed by outcome: the field rejections, then {@link #REQUEST_REQUIRED} and {@link #BIRTH_DATE_IN_FUTURE}.
+     */
+    private static final LoanValidationException[] REJECTIONS = rejections();
+    private static final ResponseEntity<?>[] REJECTION_RESPONSES = rejectionResponses();
+
+    private static final int REQUIRED = 1;
+    private static final int NOT_POSITIVE = 2;
+
+    /**
+     * Returns the rejection for an invalid request, or null when it is valid.
+     */
+    public LoanValidationException check(LoanSimulationRequest request) {
+        return REJECTIONS[outcome(request)];
+    }
+
+    /**
+     * Returns the 400 response for an invalid request, the same status and problem detail the exception handler gives
+     * its rejection, or null when it is valid. Lets a controller answer without throwing.
+     */
+    @SuppressWarnings("unchecked")
+    public ResponseEntity<ErrorResponse> reject(LoanSimulationRequest request) {
+        return (ResponseEntity<ErrorResponse>) REJECTION_RESPONSES[outcome(request)];
+    }
+
+    /**
+     * Throws the rejection for an invalid request.
+     */
+    public void validate(LoanSimulationRequest request) {
+        LoanValidationException rejection = this.check(request);
+        if (rejection != null) {
+            throw rejection;
+        }
+    }
+
+    private static int outcome(LoanSimulationRequest request) {
+        if (request == null) {
+            return REQUEST_REQUIRED_OUTCOME;
+        }
+        BigDecimal loanAmount = request.getLoanAmount();
+        int loanAmountError = loanAmount == null ? REQUIRED : loanAmount.signum() <= 0 ? NOT_POSITIVE : 0;
+        int birthDateError = request.getBirthDate() == null ? REQUIRED : 0;
+        Integer paymentTerm = request.getPaymentTermInMonths();
+        int paymentTermError = paymentTerm == null ? REQUIRED : paymentTerm <= 0 ? NOT_POSITIVE : 0;
+        int outcome = (loanAmountError * BIRTH_DATE_ERRORS.length + birthDateError) * PAYMENT_TERM_ERRORS.length + paymentTermError;
+        if (outcome == 0 && request.getBirthDate().isAfter(LocalDate.now())) {
+            return BIRTH_DATE_IN_FUTURE_OUTCOME;
+        }
+        return outcome;
+    }
+
+    private static LoanValidationException[] rejections() {
+        LoanValidationException[] rejections = Arrays.copyOf(FIELD_REJECTIONS, FIELD_REJECTIONS.length + 2);
+        rejections[REQUEST_REQUIRED_OUTCOME] = REQUEST_REQUIRED;
+        rejections[BIRTH_DATE_IN_FUTURE_OUTCOME] = BIRTH_DATE_IN_FUTURE;
+        return rejections;
+    }
+
+    private static ResponseEntity<?>[] rejectionResponses() {
+        ResponseEntity<?>[] responses = new ResponseEntity<?>[REJECTIONS.length];
+        for (int i = 0; i < responses.length; i++) {
+            LoanValidationException rejection = REJECTIONS[i];
+            if (rejection != null) {
+                responses[i] = new ResponseEntity<>(ErrorResponse.create(rejection, HttpStatus.BAD_REQUEST, rejection.getMessage()), HttpStatus.BAD_REQUEST);
+            }
+        }
+        return responses;
+    }
+
+    private static LoanValidationException[] fieldRejections() {
+        LoanValidationException[] rejections = new LoanValidationException[LOAN_AMOUNT_ERRORS.length * BIRTH_DATE_ERRORS.length * PAYMENT_TERM_ERRORS.length];
+        int index = 0;
+        for (String loanAmountError : LOAN_AMOUNT_ERRORS) {
+            for (String birthDateError : BIRTH_DATE_ERRORS) {
+                for (String paymentTermError : PAYMENT_TERM_ERRORS) {
+                    StringJoiner detail = new StringJoiner("; ");
+                    for (String error : new String[]{loanAmountError, birthDateError, paymentTermError}) {
+                        if (error != null) {
+                            detail.add(error);
+                        }
+                    }
+                    rejections[index++] = detail.length() == 0 ? null : new LoanValidationException(detail.toString());
+                }
+            }
+        }
+        return rejections;
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import service.loan.exception.GlobalExceptionHandler;
 import service.loan.exception.LoanSimulationException;
+import service.loan.exception.LoanValidationException;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -55,6 +56,16 @@ class GlobalExceptionHandlerTest {
                 });
     }
 
+    @Test
+    @DisplayName("Should reuse the response of a LoanValidationException")
+    void shouldReuseLoanValidationResponse() {
+        var response = exceptionHandler.handleLoanValidationException(new LoanValidationException("Loan amount must be greater than zero"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getBody().getDetail()).isEqualTo("Loan amount must be greater than zero");
+        assertThat(exceptionHandler.resolve(new LoanValidationException("Loan amount must be greater than zero"))).isSameAs(response);
+    }
+
     @Test
     @DisplayName("Should handle MethodArgumentNotValidException")
     void shouldHandleMethodArgumentNotValidException() {
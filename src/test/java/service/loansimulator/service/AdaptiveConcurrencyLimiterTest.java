@@ -0,0 +1,100 @@
+package service.loansimulator.service;
+
+import io.github.resilience4j.springboot3.bulkhead.autoconfigure.BulkheadProperties;
+import io.github.resilience4j.springboot3.circuitbreaker.autoconfigure.CircuitBreakerProperties;
+import io.github.resilience4j.springboot3.ratelimiter.autoconfigure.RateLimiterProperties;
+import io.github.resilience4j.springboot3.retry.autoconfigure.RetryProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.annotation.OrderUtils;
+import org.springframework.core.io.ClassPathResource;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.service.limit.AdaptiveConcurrencyLimitAspect;
+import service.loan.service.limit.AdaptiveConcurrencyLimiter;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+    private static final long NO_LOAD_RTT_NANOS = 200_000;
+
+    /**
+     * Offers far more concurrent calls than the modelled node can serve. Up to {@code capacity} calls run in parallel
+     * at the no-load latency; beyond it they queue and latency grows in proportion. Returns the limit after warm-up,
+     * averaged over the following rounds.
+     */
+    private double settleLimit(int capacity, int initialLimit) {
+        LoanSimulatorProperties.Limiter properties = new LoanSimulatorProperties.Limiter();
+        properties.setInitialLimit(initialLimit);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        int offered = 2000;
+        double sum = 0;
+        int measured = 0;
+        for (int round = 0; round < 3000; round++) {
+            int admitted = 0;
+            while (admitted < offered && limiter.tryAcquire()) {
+                admitted++;
+            }
+            long rtt = NO_LOAD_RTT_NANOS * Math.max(capacity, admitted) / capacity;
+            for (int i = 0; i < admitted; i++) {
+                limiter.onSuccess(rtt);
+            }
+            if (round >= 2000) {
+                sum += limiter.getLimit();
+                measured++;
+            }
+        }
+        return sum / measured;
+    }
+
+    @Test
+    @DisplayName("Should settle near the knee on a small node")
+    void limit_FindsKneeOnSmallNode() {
+        double limit = this.settleLimit(8, 20);
+        assertTrue(limit >= 6 && limit <= 20, "limit " + limit);
+    }
+
+    @Test
+    @DisplayName("Should grow to the knee of a large node")
+    void limit_FindsKneeOnLargeNode() {
+        double limit = this.settleLimit(256, 20);
+        assertTrue(limit >= 200 && limit <= 300, "limit " + limit);
+    }
+
+    @Test
+    @DisplayName("Should run inside every Resilience4j aspect as configured")
+    void aspectOrder_InsideEveryResilience4jAspect() throws IOException {
+        Binder binder = new Binder(ConfigurationPropertySources.from(
+                new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yml"))));
+        int retry = binder.bindOrCreate("resilience4j.retry", RetryProperties.class).getRetryAspectOrder();
+        int circuitBreaker = binder.bindOrCreate("resilience4j.circuitbreaker", CircuitBreakerProperties.class).getCircuitBreakerAspectOrder();
+        int rateLimiter = binder.bindOrCreate("resilience4j.ratelimiter", RateLimiterProperties.class).getRateLimiterAspectOrder();
+        int bulkhead = binder.bindOrCreate("resilience4j.bulkhead", BulkheadProperties.class).getBulkheadAspectOrder();
+        int limiter = OrderUtils.getOrder(AdaptiveConcurrencyLimitAspect.class, 0);
+
+        assertTrue(retry < circuitBreaker && circuitBreaker < rateLimiter && rateLimiter < bulkhead && bulkhead < limiter);
+    }
+
+    @Test
+    @DisplayName("Should reject calls beyond the limit and count them")
+    void tryAcquire_RejectsBeyondLimit() {
+        LoanSimulatorProperties.Limiter properties = new LoanSimulatorProperties.Limiter();
+        properties.setInitialLimit(5);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        assertFalse(limiter.tryAcquire());
+        assertEquals(1, limiter.getRejectedCount());
+
+        limiter.onIgnore();
+        assertTrue(limiter.tryAcquire());
+    }
+}
@@ -0,0 +1,89 @@
+package service.loansimulator.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.model.AmortizationScheduleRow;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.LoanSimulationResponse;
+import service.loan.service.engine.AnnuityFactorTable;
+import service.loan.service.impl.AmortizationScheduleServiceImpl;
+import service.loan.service.impl.LoanSimulatorServiceImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AmortizationScheduleServiceImplTest {
+    private final LoanSimulatorFixture fixture = new LoanSimulatorFixture();
+    private final LoanSimulatorProperties properties = fixture.properties();
+    private final LoanSimulatorServiceImpl loanSimulatorService = fixture.loanSimulatorService();
+    private final AmortizationScheduleServiceImpl scheduleService = new AmortizationScheduleServiceImpl(loanSimulatorService, new ObjectMapper(), properties);
+
+    @Test
+    @DisplayName("Should reconcile schedule totals exactly with the simulate response")
+    void schedule_ReconcilesWithSimulation() {
+        for (LocalDate birthDate : List.of(LocalDate.now().minusYears(20), LocalDate.now().minusYears(35), LocalDate.now().minusYears(50), LocalDate.now().minusYears(70))) {
+            for (String amount : List.of("10000.00", "1234.56", "999999.99", "0.01")) {
+                for (int term : new int[]{1, 2, 12, 61, 360, 600}) {
+                    LoanSimulationRequest request = LoanSimulationRequest.builder().loanAmount(new BigDecimal(amount)).paymentTermInMonths(term).birthDate(birthDate).build();
+                    LoanSimulationResponse simulation = loanSimulatorService.computeSimulation(request);
+                    BigDecimal monthlyRate = AnnuityFactorTable.monthlyRate(loanSimulatorService.calculateAnnualInterestRate(birthDate));
+
+                    List<AmortizationScheduleRow> rows = scheduleService.schedule(request, simulation, monthlyRate).toList();
+
+                    assertEquals(term, rows.size());
+                    assertEquals(0, simulation.getTotalAmount().compareTo(rows.stream().map(AmortizationScheduleRow::getPayment).reduce(BigDecimal.ZERO, BigDecimal::add)));
+                    assertEquals(0, request.getLoanAmount().compareTo(rows.stream().map(AmortizationScheduleRow::getPrincipal).reduce(BigDecimal.ZERO, BigDecimal::add)));
+                    assertEquals(0, simulation.getTotalInterest().compareTo(rows.stream().map(AmortizationScheduleRow::getInterest).reduce(BigDecimal.ZERO, BigDecimal::add)));
+                    assertEquals(0, BigDecimal.ZERO.compareTo(rows.get(term - 1).getBalance()));
+                    rows.subList(0, term - 1).forEach(row -> assertEquals(simulation.getMonthlyPayment(), row.getPayment()));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep every row non-negative when rounded payments exceed the total")
+    void schedule_CentLoans_NoNegativeRows() {
+        for (String amount : List.of("0.01", "0.02", "0.05")) {
+            for (int term = 1; term <= 12; term++) {
+                LoanSimulationRequest request = LoanSimulationRequest.builder().loanAmount(new BigDecimal(amount)).paymentTermInMonths(term).birthDate(LocalDate.now().minusYears(20)).build();
+                LoanSimulationResponse simulation = loanSimulatorService.computeSimulation(request);
+                BigDecimal monthlyRate = AnnuityFactorTable.monthlyRate(simulation.getAnnualInterestRate().movePointLeft(2));
+
+                List<AmortizationScheduleRow> rows = scheduleService.schedule(request, simulation, monthlyRate).toList();
+
+                for (AmortizationScheduleRow row : rows) {
+                    for (BigDecimal value : List.of(row.getPayment(), row.getPrincipal(), row.getInterest(), row.getBalance())) {
+                        assertTrue(value.signum() >= 0, amount + " over " + term + " months: " + row);
+                    }
+                }
+                assertEquals(0, simulation.getTotalAmount().compareTo(rows.stream().map(AmortizationScheduleRow::getPayment).reduce(BigDecimal.ZERO, BigDecimal::add)));
+                assertEquals(0, simulation.getTotalInterest().compareTo(rows.stream().map(AmortizationScheduleRow::getInterest).reduce(BigDecimal.ZERO, BigDecimal::add)));
+                assertEquals(0, BigDecimal.ZERO.compareTo(rows.get(term - 1).getBalance()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should write one newline-delimited row per month")
+    void writeSchedule_WritesOneLinePerMonth() throws IOException {
+        LoanSimulationRequest request = LoanSimulationRequest.builder().loanAmount(new BigDecimal("10000.00")).paymentTermInMonths(600).birthDate(LocalDate.of(1990, 1, 1)).build();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        scheduleService.writeSchedule(request, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(600, lines.length);
+        assertTrue(lines[0].startsWith("{\"month\":1,"));
+        assertTrue(lines[599].endsWith("\"balance\":0.00}"));
+    }
+}
@@ -0,0 +1,66 @@
+package service.loansimulator.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.model.RateBand;
+import service.loan.service.engine.AnnuityFactorTable;
+import service.loan.service.engine.BigDecimalCalculationEngine;
+import service.loan.service.engine.CalculationEngine;
+import service.loan.service.rate.InterestRateBands;
+import service.loan.service.rate.RateBandsChangedEvent;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AnnuityFactorTableTest {
+    private final CalculationEngine engine = new BigDecimalCalculationEngine();
+    private final LoanSimulatorProperties properties = new LoanSimulatorProperties();
+
+    @Test
+    @DisplayName("Should return the engine factor for every band and term in the table")
+    void annuityFactor_MatchesEngineInsideTable() {
+        properties.getCalculation().setMaxTermInMonths(120);
+        InterestRateBands bands = new InterestRateBands(event -> {
+        });
+        AnnuityFactorTable table = new AnnuityFactorTable(engine, bands, properties);
+
+        for (RateBand band : bands.getBands()) {
+            BigDecimal monthlyRate = AnnuityFactorTable.monthlyRate(band.getAnnualRate());
+            for (int term = 1; term <= 120; term++) {
+                assertEquals(engine.annuityFactor(monthlyRate, term), table.annuityFactor(monthlyRate, term));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to the engine for terms and rates outside the table")
+    void annuityFactor_FallsBackOutsideTable() {
+        properties.getCalculation().setMaxTermInMonths(12);
+        AnnuityFactorTable table = new AnnuityFactorTable(engine, new InterestRateBands(event -> {
+        }), properties);
+        BigDecimal bandRate = AnnuityFactorTable.monthlyRate(BigDecimal.valueOf(0.05));
+        BigDecimal otherRate = AnnuityFactorTable.monthlyRate(BigDecimal.valueOf(0.07));
+
+        assertEquals(engine.annuityFactor(bandRate, 360), table.annuityFactor(bandRate, 360));
+        assertEquals(engine.annuityFactor(otherRate, 12), table.annuityFactor(otherRate, 12));
+    }
+
+    @Test
+    @DisplayName("Should rebuild when the rate bands change")
+    void annuityFactor_RebuildsOnRateBandsChanged() {
+        properties.getCalculation().setMaxTermInMonths(60);
+        AnnuityFactorTable[] table = new AnnuityFactorTable[1];
+        InterestRateBands bands = new InterestRateBands(event -> table[0].onRateBandsChanged((RateBandsChangedEvent) event));
+        table[0] = new AnnuityFactorTable(engine, bands, properties);
+
+        bands.replace(List.of(
+                RateBand.builder().maxAge(30).annualRate(BigDecimal.valueOf(0.07)).build(),
+                RateBand.builder().maxAge(null).annualRate(BigDecimal.valueOf(0.01)).build()));
+
+        BigDecimal newRate = AnnuityFactorTable.monthlyRate(BigDecimal.valueOf(0.07));
+        assertEquals(engine.annuityFactor(newRate, 48), table[0].annuityFactor(newRate, 48));
+    }
+}
@@ -0,0 +1,105 @@
+package service.loansimulator.service;
+
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.LoanSimulationResponse;
+import service.loan.service.cache.CachingLoanSimulatorService;
+import service.loan.service.impl.LoanSimulatorServiceImpl;
+import service.loan.service.rate.RateBandsChangedEvent;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingLoanSimulatorServiceTest {
+
+    @Mock
+    private LoanSimulatorServiceImpl delegate;
+    private CachingLoanSimulatorService cachingService;
+    private final RateLimiterRegistry rateLimiterRegistry = RateLimiterRegistry.of(RateLimiterConfig.custom()
+            .limitForPeriod(1)
+            .limitRefreshPeriod(Duration.ofHours(1))
+            .timeoutDuration(Duration.ZERO)
+            .build());
+    private final LoanSimulationResponse response = LoanSimulationResponse.builder().monthlyPayment(BigDecimal.TEN).build();
+
+    @BeforeEach
+    void setUp() {
+        cachingService = new CachingLoanSimulatorService(delegate, new LoanSimulatorProperties(), new SimpleMeterRegistry(), (request, response) -> {
+        }, rateLimiterRegistry);
+        when(delegate.calculateAnnualInterestRate(any())).thenReturn(BigDecimal.valueOf(0.03));
+        when(delegate.simulateLoan(any(), any())).thenReturn(response);
+    }
+
+    @Test
+    @DisplayName("Should serve requests in the same age band and amount from the cache")
+    void simulateLoan_SameBandAndAmount_HitsCache() {
+        LoanSimulationRequest first = request(new BigDecimal("10000"), LocalDate.of(1990, 1, 1));
+        LoanSimulationRequest second = request(new BigDecimal("10000.00"), LocalDate.of(1991, 6, 15));
+
+        assertSame(response, cachingService.simulateLoan(first));
+        assertSame(response, cachingService.simulateLoan(second));
+
+        verify(delegate, times(1)).simulateLoan(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should drop cached results when the rate bands change")
+    void simulateLoan_RateBandsChanged_Recomputes() {
+        LoanSimulationRequest request = request(new BigDecimal("10000"), LocalDate.of(1990, 1, 1));
+
+        cachingService.simulateLoan(request);
+        cachingService.onRateBandsChanged(new RateBandsChangedEvent(List.of()));
+        cachingService.simulateLoan(request);
+
+        verify(delegate, times(2)).simulateLoan(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should compute a miss at the rate its cache key was built from")
+    void simulateLoan_Miss_PassesResolvedRateToDelegate() {
+        LoanSimulationRequest request = request(new BigDecimal("10000"), LocalDate.of(1990, 1, 1));
+
+        cachingService.simulateLoan(request);
+
+        verify(delegate, times(1)).calculateAnnualInterestRate(request.getBirthDate());
+        verify(delegate).simulateLoan(request, BigDecimal.valueOf(0.03));
+    }
+
+    @Test
+    @DisplayName("Should take a rate-limiter permit for a metered hit only")
+    void simulateLoanMetered_Hit_TakesRateLimiterPermit() {
+        LoanSimulationRequest request = request(new BigDecimal("10000"), LocalDate.of(1990, 1, 1));
+
+        cachingService.simulateLoanMetered(request);
+        cachingService.simulateLoan(request);
+        assertSame(response, cachingService.simulateLoanMetered(request));
+
+        assertThrows(RequestNotPermitted.class, () -> cachingService.simulateLoanMetered(request));
+        assertSame(response, cachingService.simulateLoan(request));
+        verify(delegate, times(1)).simulateLoan(any(), any());
+    }
+
+    private static LoanSimulationRequest request(BigDecimal loanAmount, LocalDate birthDate) {
+        return LoanSimulationRequest.builder().loanAmount(loanAmount).birthDate(birthDate).paymentTermInMonths(24).build();
+    }
+}
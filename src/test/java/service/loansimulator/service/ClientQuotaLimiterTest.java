@@ -0,0 +1,135 @@
+package service.loansimulator.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.service.quota.ClientQuotaLimiter;
+import service.loan.service.quota.InMemoryTokenBucketStore;
+import service.loan.service.quota.TokenBucketStore;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClientQuotaLimiterTest {
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant instant = Instant.parse("2024-03-20T10:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    private final MutableClock clock = new MutableClock();
+    private final LoanSimulatorProperties.Quota properties = new LoanSimulatorProperties().getQuota();
+    private final AtomicInteger storeCalls = new AtomicInteger();
+    private final InMemoryTokenBucketStore buckets = new InMemoryTokenBucketStore(clock);
+    private final TokenBucketStore store = (key, requested, capacity, refillPeriod) -> {
+        storeCalls.incrementAndGet();
+        return buckets.take(key, requested, capacity, refillPeriod);
+    };
+
+    @BeforeEach
+    void setUp() {
+        properties.getTiers().get("standard").setLimitForPeriod(1000);
+        LoanSimulatorProperties.Tier premium = new LoanSimulatorProperties.Tier();
+        premium.setLimitForPeriod(100);
+        properties.getTiers().put("premium", premium);
+        properties.getClients().put("acme", "premium");
+    }
+
+    @Test
+    @DisplayName("Should enforce one limit across replicas while calling the store once per prefetched batch")
+    void tryAcquire_SharesLimitAcrossReplicas() {
+        ClientQuotaLimiter first = new ClientQuotaLimiter(properties, store, clock);
+        ClientQuotaLimiter second = new ClientQuotaLimiter(properties, store, clock);
+
+        assertEquals(1000, this.acquireAll(first, second, null));
+        assertEquals(100 + 2, storeCalls.get());
+        assertFalse(first.tryAcquire(null));
+        assertEquals(100 + 2, storeCalls.get());
+
+        clock.advance(Duration.ofMillis(500));
+        assertEquals(500, this.acquireAll(first, second, null));
+    }
+
+    @Test
+    @DisplayName("Should give listed clients their tier's bucket and everyone else the shared default bucket")
+    void tryAcquire_AppliesClientTiers() {
+        ClientQuotaLimiter limiter = new ClientQuotaLimiter(properties, store, clock);
+
+        assertEquals(100, this.acquireAll(limiter, limiter, "acme"));
+        assertEquals(600, this.acquireAll(limiter, limiter, "mallory", 600));
+        assertEquals(400, this.acquireAll(limiter, limiter, null));
+        assertFalse(limiter.tryAcquire("acme"));
+    }
+
+    @Test
+    @DisplayName("Should let requests through or reject them while the store is down, depending on fail-open")
+    void tryAcquire_StoreDown() {
+        TokenBucketStore down = (key, requested, capacity, refillPeriod) -> {
+            storeCalls.incrementAndGet();
+            throw new IllegalStateException("Connection refused");
+        };
+        ClientQuotaLimiter failOpen = new ClientQuotaLimiter(properties, down, clock);
+        properties.setFailOpen(false);
+        ClientQuotaLimiter failClosed = new ClientQuotaLimiter(properties, down, clock);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        failClosed.bindTo(registry);
+
+        assertEquals(5000, this.acquireAll(failOpen, failOpen, null, 5000));
+        assertFalse(failClosed.tryAcquire(null));
+        assertFalse(failClosed.tryAcquire(null));
+        assertEquals(2, storeCalls.get());
+
+        clock.advance(properties.getPrefetchTtl());
+        assertTrue(failOpen.tryAcquire(null));
+        assertEquals(3, storeCalls.get());
+        assertEquals(1.0, registry.get("loan.simulation.quota.store.errors").functionCounter().count());
+        assertEquals(2.0, registry.get("loan.simulation.quota.requests").tag("result", "rejected").functionCounter().count());
+    }
+
+    private int acquireAll(ClientQuotaLimiter first, ClientQuotaLimiter second, String client) {
+        return this.acquireAll(first, second, client, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Alternates between the two replicas until both reject or {@code max} requests were allowed.
+     */
+    private int acquireAll(ClientQuotaLimiter first, ClientQuotaLimiter second, String client, int max) {
+        int allowed = 0;
+        boolean firstAllowed = true;
+        boolean secondAllowed = true;
+        while ((firstAllowed || secondAllowed) && allowed < max) {
+            firstAllowed = first.tryAcquire(client);
+            secondAllowed = allowed + 1 < max && second.tryAcquire(client);
+            allowed += (firstAllowed ? 1 : 0) + (secondAllowed ? 1 : 0);
+        }
+        return allowed;
+    }
+}
@@ -0,0 +1,59 @@
+package service.loansimulator.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import service.loan.service.engine.BigDecimalCalculationEngine;
+import service.loan.service.engine.CalculationEngine;
+import service.loan.service.engine.FastCalculationEngine;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The monthly payment is {@code loanAmount * annuityFactor}, and every amount derived from it is rounded from that
+ * product. Matching factors therefore mean matching 2-decimal results for every loan amount, which is why the engines
+ * are compared on the factor over the whole (rate, term) range instead of sampling amounts.
+ */
+class FastCalculationEngineTest {
+    private static final int MAX_TERM_IN_MONTHS = 600;
+    private static final List<BigDecimal> ANNUAL_RATES = List.of(
+            BigDecimal.valueOf(0.05), BigDecimal.valueOf(0.03), BigDecimal.valueOf(0.02), BigDecimal.valueOf(0.04));
+
+    private final CalculationEngine reference = new BigDecimalCalculationEngine();
+    private final CalculationEngine fast = new FastCalculationEngine();
+
+    @Test
+    @DisplayName("Should match the reference engine for every rate band and every supported term")
+    void annuityFactor_MatchesReferenceForAllBandsAndTerms() {
+        for (BigDecimal annualRate : ANNUAL_RATES) {
+            BigDecimal monthlyRate = annualRate.divide(BigDecimal.valueOf(12L), 10, RoundingMode.HALF_EVEN);
+            for (int term = 1; term <= MAX_TERM_IN_MONTHS; term++) {
+                assertEquals(reference.annuityFactor(monthlyRate, term), fast.annuityFactor(monthlyRate, term),
+                        "rate=" + annualRate + ", term=" + term);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the reference engine for rates outside the current bands")
+    void annuityFactor_MatchesReferenceForRateSweep() {
+        for (int basisPoints = 1; basisPoints <= 3000; basisPoints += 7) {
+            BigDecimal monthlyRate = BigDecimal.valueOf(basisPoints, 4).divide(BigDecimal.valueOf(12L), 10, RoundingMode.HALF_EVEN);
+            for (int term : new int[]{1, 2, 12, 37, 60, 121, 360, 600}) {
+                assertEquals(reference.annuityFactor(monthlyRate, term), fast.annuityFactor(monthlyRate, term),
+                        "basisPoints=" + basisPoints + ", term=" + term);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail like the reference engine for a zero rate")
+    void annuityFactor_ZeroRate_ThrowsArithmeticException() {
+        assertThrows(ArithmeticException.class, () -> reference.annuityFactor(BigDecimal.ZERO, 12));
+        assertThrows(ArithmeticException.class, () -> fast.annuityFactor(BigDecimal.ZERO, 12));
+    }
+}
@@ -0,0 +1,100 @@
+package service.loansimulator.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.SimulationJob;
+import service.loan.model.SimulationJobStatus;
+import service.loan.service.overflow.FileSimulationJobQueue;
+import service.loan.service.overflow.QueuedSimulationJob;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileSimulationJobQueueTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path directory;
+
+    private static SimulationJob job(String jobId) {
+        return SimulationJob.builder()
+                .jobId(jobId)
+                .status(SimulationJobStatus.PENDING)
+                .submittedAt(Instant.parse("2024-03-20T10:30:00Z"))
+                .request(LoanSimulationRequest.builder()
+                        .loanAmount(new BigDecimal("10000.00"))
+                        .paymentTermInMonths(12)
+                        .birthDate(LocalDate.of(1990, 1, 1))
+                        .build())
+                .build();
+    }
+
+    private FileSimulationJobQueue open() throws IOException {
+        return new FileSimulationJobQueue(directory, 10, Duration.ofSeconds(30), objectMapper);
+    }
+
+    @Test
+    @DisplayName("Should redeliver undeleted messages, received or not, after a restart")
+    void open_RecoversUndeletedMessages() throws IOException, InterruptedException {
+        try (FileSimulationJobQueue queue = this.open()) {
+            queue.sendMessage(job("job-1"));
+            queue.sendMessage(job("job-2"));
+            queue.sendMessage(job("job-3"));
+            List<QueuedSimulationJob> received = queue.receiveMessages(2, Duration.ZERO);
+            queue.deleteMessage(received.get(0).receiptHandle());
+        }
+
+        try (FileSimulationJobQueue queue = this.open()) {
+            assertEquals(List.of(job("job-2"), job("job-3")), queue.recoveredJobs());
+            assertEquals(2, queue.approximateNumberOfMessages());
+            List<QueuedSimulationJob> redelivered = queue.receiveMessages(10, Duration.ZERO);
+            assertEquals(List.of("job-2", "job-3"), redelivered.stream().map(QueuedSimulationJob::jobId).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Should ignore a journal line cut short by a crash")
+    void open_IgnoresTruncatedTail() throws IOException {
+        try (FileSimulationJobQueue queue = this.open()) {
+            queue.sendMessage(job("job-1"));
+        }
+        Files.writeString(directory.resolve("overflow-queue.ndjson"), "{\"op\":\"send\",\"messageId\":\"m", StandardOpenOption.APPEND);
+
+        try (FileSimulationJobQueue queue = this.open()) {
+            assertEquals(List.of(job("job-1")), queue.recoveredJobs());
+        }
+    }
+
+    @Test
+    @DisplayName("Should compact the journal once deleted entries outnumber live ones")
+    void deleteMessage_CompactsJournal() throws IOException, InterruptedException {
+        Path journal = directory.resolve("overflow-queue.ndjson");
+        try (FileSimulationJobQueue queue = this.open()) {
+            for (int i = 0; i < 1024; i++) {
+                queue.sendMessage(job("job-" + i));
+                queue.deleteMessage(queue.receiveMessages(1, Duration.ZERO).get(0).receiptHandle());
+            }
+            queue.sendMessage(job("live"));
+
+            assertEquals(1, Files.readAllLines(journal).size());
+        }
+
+        try (FileSimulationJobQueue queue = this.open()) {
+            assertEquals(List.of(job("live")), queue.recoveredJobs());
+            assertTrue(queue.receiveMessages(1, Duration.ZERO).stream().allMatch(message -> message.jobId().equals("live")));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package service.loansimulator.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import service.loan.exception.SimulationQueueFullException;
+import service.loan.model.SimulationJob;
+import service.loan.model.SimulationJobStatus;
+import service.loan.service.overflow.InMemorySimulationJobQueue;
+import service.loan.service.overflow.QueuedSimulationJob;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemorySimulationJobQueueTest {
+
+    static SimulationJob job(String jobId) {
+        return SimulationJob.builder().jobId(jobId).status(SimulationJobStatus.PENDING).build();
+    }
+
+    @Test
+    @DisplayName("Should redeliver a message whose visibility timeout expired without a delete")
+    void receiveMessages_RedeliversAfterVisibilityTimeout() throws InterruptedException {
+        InMemorySimulationJobQueue queue = new InMemorySimulationJobQueue(10, Duration.ofMillis(50));
+        queue.sendMessage(job("job-1"));
+
+        QueuedSimulationJob first = queue.receiveMessages(10, Duration.ZERO).get(0);
+        assertTrue(queue.receiveMessages(10, Duration.ZERO).isEmpty());
+
+        List<QueuedSimulationJob> redelivered = queue.receiveMessages(10, Duration.ofSeconds(1));
+        assertEquals(1, redelivered.size());
+        assertEquals("job-1", redelivered.get(0).jobId());
+        assertEquals(first.messageId(), redelivered.get(0).messageId());
+        assertEquals(2, redelivered.get(0).receiveCount());
+    }
+
+    @Test
+    @DisplayName("Should drop a message once it is deleted")
+    void deleteMessage_RemovesInFlightMessage() throws InterruptedException {
+        InMemorySimulationJobQueue queue = new InMemorySimulationJobQueue(10, Duration.ofMillis(50));
+        queue.sendMessage(job("job-1"));
+
+        queue.deleteMessage(queue.receiveMessages(1, Duration.ZERO).get(0).receiptHandle());
+
+        assertEquals(0, queue.approximateNumberOfMessages());
+        assertTrue(queue.receiveMessages(1, Duration.ofMillis(100)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject messages beyond capacity, counting in-flight ones")
+    void sendMessage_RejectsWhenFull() throws InterruptedException {
+        InMemorySimulationJobQueue queue = new InMemorySimulationJobQueue(2, Duration.ofSeconds(30));
+        queue.sendMessage(job("job-1"));
+        queue.sendMessage(job("job-2"));
+        queue.receiveMessages(2, Duration.ZERO);
+
+        assertThrows(SimulationQueueFullException.class, () -> queue.sendMessage(job("job-3")));
+    }
+}
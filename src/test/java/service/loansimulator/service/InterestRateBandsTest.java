@@ -0,0 +1,88 @@
+package service.loansimulator.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import service.loan.model.RateBand;
+import service.loan.service.rate.InterestRateBands;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InterestRateBandsTest {
+    private static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+
+    /**
+     * Clock whose instant can be moved forward, to cross midnight between lookups.
+     */
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDate date) {
+            this.instant = date.atStartOfDay(ZONE).toInstant();
+        }
+
+        void set(LocalDate date) {
+            this.instant = date.atStartOfDay(ZONE).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    private void assertMatchesPeriod(InterestRateBands bands, LocalDate today) {
+        for (LocalDate birthDate = today.minusYears(100); !birthDate.isAfter(today); birthDate = birthDate.plusDays(1)) {
+            BigDecimal expected = bands.annualRateForAge(Period.between(birthDate, today).getYears());
+            assertEquals(expected, bands.annualRateForBirthDate(birthDate), "birth date " + birthDate + " on " + today);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match Period-based age bands for every birth date, including leap days")
+    void annualRateForBirthDate_MatchesPeriod() {
+        MutableClock clock = new MutableClock(LocalDate.of(2024, 2, 28));
+        InterestRateBands bands = new InterestRateBands(event -> {
+        }, clock);
+
+        for (LocalDate today : List.of(LocalDate.of(2024, 2, 28), LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 1),
+                LocalDate.of(2025, 2, 28), LocalDate.of(2025, 3, 1), LocalDate.of(2025, 12, 31), LocalDate.of(2026, 1, 1))) {
+            clock.set(today);
+            this.assertMatchesPeriod(bands, today);
+        }
+    }
+
+    @Test
+    @DisplayName("Should rebuild the index when the bands are replaced")
+    void annualRateForBirthDate_FollowsReplacedBands() {
+        LocalDate today = LocalDate.of(2025, 6, 15);
+        InterestRateBands bands = new InterestRateBands(event -> {
+        }, new MutableClock(today));
+
+        bands.replace(List.of(
+                RateBand.builder().maxAge(18).annualRate(BigDecimal.valueOf(0.09)).build(),
+                RateBand.builder().maxAge(30).annualRate(BigDecimal.valueOf(0.07)).build(),
+                RateBand.builder().maxAge(null).annualRate(BigDecimal.valueOf(0.01)).build()));
+
+        this.assertMatchesPeriod(bands, today);
+        assertEquals(BigDecimal.valueOf(0.07), bands.annualRateForBirthDate(today.minusYears(31).plusDays(1)));
+        assertEquals(BigDecimal.valueOf(0.01), bands.annualRateForBirthDate(today.minusYears(31)));
+    }
+}
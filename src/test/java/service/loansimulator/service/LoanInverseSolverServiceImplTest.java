@@ -0,0 +1,111 @@
+package service.loansimulator.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.exception.LoanSimulationException;
+import service.loan.exception.LoanValidationException;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.LoanSimulationResponse;
+import service.loan.model.LoanSolutionResponse;
+import service.loan.model.MaxLoanAmountRequest;
+import service.loan.model.MinPaymentTermRequest;
+import service.loan.service.impl.LoanInverseSolverServiceImpl;
+import service.loan.service.impl.LoanSimulatorServiceImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoanInverseSolverServiceImplTest {
+    private static final BigDecimal CENT = new BigDecimal("0.01");
+    private static final List<LocalDate> BIRTH_DATES = List.of(LocalDate.now().minusYears(20), LocalDate.now().minusYears(35),
+            LocalDate.now().minusYears(50), LocalDate.now().minusYears(70));
+
+    private final LoanSimulatorFixture fixture = new LoanSimulatorFixture();
+    private final LoanSimulatorProperties properties = fixture.properties();
+    private final LoanSimulatorServiceImpl loanSimulatorService = fixture.loanSimulatorService();
+    private final LoanInverseSolverServiceImpl solver = new LoanInverseSolverServiceImpl(loanSimulatorService, properties);
+
+    private BigDecimal simulatedPayment(BigDecimal amount, int term, LocalDate birthDate) {
+        LoanSimulationResponse response = loanSimulatorService.computeSimulation(LoanSimulationRequest.builder()
+                .loanAmount(amount).paymentTermInMonths(term).birthDate(birthDate).build());
+        return response.getMonthlyPayment();
+    }
+
+    @Test
+    @DisplayName("Should return the largest amount whose simulated payment fits the target")
+    void solveMaxLoanAmount_IsTightBound() {
+        for (LocalDate birthDate : BIRTH_DATES) {
+            for (String target : List.of("0.05", "99.99", "846.94", "1234.567", "25000.00")) {
+                for (int term : new int[]{1, 7, 60, 360, 600}) {
+                    BigDecimal payment = new BigDecimal(target);
+                    LoanSolutionResponse solution = solver.solveMaxLoanAmount(MaxLoanAmountRequest.builder()
+                            .monthlyPayment(payment).paymentTermInMonths(term).birthDate(birthDate).build());
+
+                    BigDecimal amount = solution.getLoanAmount();
+                    assertTrue(this.simulatedPayment(amount, term, birthDate).compareTo(payment) <= 0);
+                    assertTrue(this.simulatedPayment(amount.add(CENT), term, birthDate).compareTo(payment) > 0);
+                    assertEquals(this.simulatedPayment(amount, term, birthDate), solution.getSimulation().getMonthlyPayment());
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the shortest term whose simulated payment fits the target")
+    void solveMinPaymentTerm_IsTightBound() {
+        for (LocalDate birthDate : BIRTH_DATES) {
+            for (String amount : List.of("100.00", "10000.00", "250000.00")) {
+                for (String target : List.of("50.00", "846.94", "1500.00", "300000.00")) {
+                    BigDecimal loanAmount = new BigDecimal(amount);
+                    BigDecimal payment = new BigDecimal(target);
+                    MinPaymentTermRequest request = MinPaymentTermRequest.builder()
+                            .loanAmount(loanAmount).monthlyPayment(payment).birthDate(birthDate).build();
+                    if (this.simulatedPayment(loanAmount, 600, birthDate).compareTo(payment) > 0) {
+                        assertThrows(LoanSimulationException.class, () -> solver.solveMinPaymentTerm(request));
+                        continue;
+                    }
+
+                    int term = solver.solveMinPaymentTerm(request).getPaymentTermInMonths();
+                    assertTrue(this.simulatedPayment(loanAmount, term, birthDate).compareTo(payment) <= 0);
+                    assertTrue(term == 1 || this.simulatedPayment(loanAmount, term - 1, birthDate).compareTo(payment) > 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a payment below the smallest possible loan")
+    void solveMaxLoanAmount_RejectsTooLowPayment() {
+        MaxLoanAmountRequest request = MaxLoanAmountRequest.builder()
+                .monthlyPayment(new BigDecimal("0.001")).paymentTermInMonths(1).birthDate(LocalDate.of(1990, 1, 1)).build();
+
+        assertThrows(LoanSimulationException.class, () -> solver.solveMaxLoanAmount(request));
+    }
+
+    @Test
+    @DisplayName("Should reject a term beyond the annuity factor table as a validation error")
+    void solveMaxLoanAmount_RejectsTermBeyondMaxTerm() {
+        MaxLoanAmountRequest request = MaxLoanAmountRequest.builder()
+                .monthlyPayment(new BigDecimal("500.00")).paymentTermInMonths(properties.getCalculation().getMaxTermInMonths() + 1)
+                .birthDate(LocalDate.of(1990, 1, 1)).build();
+
+        LoanValidationException exception = assertThrows(LoanValidationException.class, () -> solver.solveMaxLoanAmount(request));
+        assertEquals("Payment term must not exceed 600 months", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject a future birth date as a validation error")
+    void solveMinPaymentTerm_RejectsFutureBirthDate() {
+        MinPaymentTermRequest request = MinPaymentTermRequest.builder()
+                .loanAmount(new BigDecimal("10000.00")).monthlyPayment(new BigDecimal("500.00")).birthDate(LocalDate.now().plusDays(1)).build();
+
+        LoanValidationException exception = assertThrows(LoanValidationException.class, () -> solver.solveMinPaymentTerm(request));
+        assertEquals("Birth date cannot be in the future", exception.getMessage());
+    }
+}
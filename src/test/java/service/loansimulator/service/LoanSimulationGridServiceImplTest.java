@@ -0,0 +1,89 @@
+package service.loansimulator.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.exception.LoanSimulationException;
+import service.loan.exception.LoanValidationException;
+import service.loan.model.LoanSimulationGridRequest;
+import service.loan.model.LoanSimulationGridResponse;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.LoanSimulationResponse;
+import service.loan.service.impl.LoanSimulationGridServiceImpl;
+import service.loan.service.impl.LoanSimulatorServiceImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoanSimulationGridServiceImplTest {
+    private final LoanSimulatorFixture fixture = new LoanSimulatorFixture();
+    private final LoanSimulatorProperties properties = fixture.properties();
+    private final LoanSimulatorServiceImpl loanSimulatorService = fixture.loanSimulatorService();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LoanSimulationGridServiceImpl gridService = new LoanSimulationGridServiceImpl(loanSimulatorService, fixture.table(), executor, properties);
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Should match a single simulation in every cell")
+    void simulateGrid_MatchesSimulationPerCell() {
+        LoanSimulationGridRequest request = LoanSimulationGridRequest.builder()
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .loanAmountFrom(new BigDecimal("1000.00")).loanAmountTo(new BigDecimal("50000.00")).loanAmountStep(new BigDecimal("2450.50"))
+                .paymentTermFrom(6).paymentTermTo(600).paymentTermStep(23)
+                .build();
+
+        LoanSimulationGridResponse grid = gridService.simulateGrid(request);
+
+        assertEquals(20, grid.getLoanAmounts().size());
+        assertEquals(26, grid.getPaymentTermsInMonths().size());
+        for (int t = 0; t < grid.getPaymentTermsInMonths().size(); t++) {
+            for (int a = 0; a < grid.getLoanAmounts().size(); a++) {
+                LoanSimulationResponse expected = loanSimulatorService.computeSimulation(LoanSimulationRequest.builder()
+                        .loanAmount(grid.getLoanAmounts().get(a))
+                        .paymentTermInMonths(grid.getPaymentTermsInMonths().get(t))
+                        .birthDate(request.getBirthDate())
+                        .build());
+                assertEquals(expected.getMonthlyPayment(), grid.getMonthlyPayment().get(t).get(a));
+                assertEquals(expected.getTotalAmount(), grid.getTotalAmount().get(t).get(a));
+                assertEquals(expected.getTotalInterest(), grid.getTotalInterest().get(t).get(a));
+                assertEquals(expected.getAnnualInterestRate(), grid.getAnnualInterestRate());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject grids larger than the configured number of cells")
+    void simulateGrid_RejectsOversizedGrid() {
+        LoanSimulationGridRequest request = LoanSimulationGridRequest.builder()
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .loanAmountFrom(BigDecimal.ONE).loanAmountTo(new BigDecimal("1000000")).loanAmountStep(BigDecimal.ONE)
+                .paymentTermFrom(12).paymentTermTo(12).paymentTermStep(1)
+                .build();
+
+        LoanSimulationException exception = assertThrows(LoanSimulationException.class, () -> gridService.simulateGrid(request));
+        assertEquals("Grid size must not exceed 10000 cells", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject terms longer than the precomputed table")
+    void simulateGrid_RejectsTermBeyondMaxTerm() {
+        LoanSimulationGridRequest request = LoanSimulationGridRequest.builder()
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .loanAmountFrom(new BigDecimal("1000.00")).loanAmountTo(new BigDecimal("1000.00")).loanAmountStep(BigDecimal.ONE)
+                .paymentTermFrom(12).paymentTermTo(612).paymentTermStep(12)
+                .build();
+
+        LoanValidationException exception = assertThrows(LoanValidationException.class, () -> gridService.simulateGrid(request));
+        assertEquals("Payment term must not exceed 600 months", exception.getMessage());
+    }
+}
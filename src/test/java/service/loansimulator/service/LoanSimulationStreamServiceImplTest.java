@@ -0,0 +1,56 @@
+package service.loansimulator.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.exception.GlobalExceptionHandler;
+import service.loan.exception.LoanSimulationException;
+import service.loan.service.LoanSimulatorService;
+import service.loan.service.impl.LoanSimulationStreamServiceImpl;
+import service.loan.validation.LoanSimulationRequestValidator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LoanSimulationStreamServiceImplTest {
+
+    @Mock
+    private LoanSimulatorService loanSimulatorService;
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+
+    @Test
+    @DisplayName("Should count calculation failures, but not invalid records, against the circuit breaker")
+    void simulateStream_CalculationFailure_RecordedByCircuitBreaker() throws IOException {
+        when(loanSimulatorService.computeSimulation(any())).thenThrow(new LoanSimulationException("Error calculating loan simulation"));
+        LoanSimulationStreamServiceImpl service = new LoanSimulationStreamServiceImpl(loanSimulatorService, new LoanSimulationRequestValidator(),
+                new GlobalExceptionHandler(), new ObjectMapper().findAndRegisterModules(), circuitBreakerRegistry,
+                RateLimiterRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(), new LoanSimulatorProperties());
+        String valid = "{\"loanAmount\":10000,\"paymentTermInMonths\":12,\"birthDate\":\"1990-01-01\"}";
+        String invalid = "{\"loanAmount\":-1,\"paymentTermInMonths\":12,\"birthDate\":\"1990-01-01\"}";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        service.simulateStream(new ByteArrayInputStream(String.join("\n", valid, invalid, valid).getBytes(StandardCharsets.UTF_8)), output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(3, lines.size());
+        assertEquals(List.of(true, false, true), lines.stream().map(line -> line.contains("\"status\":400") && line.contains("Error calculating")).toList());
+        CircuitBreaker.Metrics metrics = circuitBreakerRegistry.circuitBreaker("loanSimulation").getMetrics();
+        assertEquals(2, metrics.getNumberOfFailedCalls());
+    }
+}
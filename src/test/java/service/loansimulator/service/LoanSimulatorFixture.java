@@ -0,0 +1,53 @@
+package service.loansimulator.service;
+
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.service.engine.AnnuityFactorTable;
+import service.loan.service.engine.FastCalculationEngine;
+import service.loan.service.execution.InlineSimulationDispatcher;
+import service.loan.service.history.SimulationHistoryRecorder;
+import service.loan.service.impl.LoanSimulatorServiceImpl;
+import service.loan.service.metrics.SimulationMetrics;
+import service.loan.service.rate.InterestRateBands;
+
+/**
+ * The simulator the service tests build on: built-in rate bands, the annuity factor table on the fast engine and
+ * inline dispatch, without metrics or history. Each test gets its own, so it may change the properties.
+ */
+final class LoanSimulatorFixture {
+    private final LoanSimulatorProperties properties = new LoanSimulatorProperties();
+    private final InterestRateBands bands = new InterestRateBands(event -> {
+    });
+    private final AnnuityFactorTable table = new AnnuityFactorTable(new FastCalculationEngine(), bands, properties);
+    private final LoanSimulatorServiceImpl loanSimulatorService = new LoanSimulatorServiceImpl(table, bands, new InlineSimulationDispatcher());
+
+    LoanSimulatorProperties properties() {
+        return properties;
+    }
+
+    InterestRateBands bands() {
+        return bands;
+    }
+
+    AnnuityFactorTable table() {
+        return table;
+    }
+
+    LoanSimulatorServiceImpl loanSimulatorService() {
+        return loanSimulatorService;
+    }
+
+    /**
+     * A simulator on the same bands and table that records to {@code metrics}.
+     */
+    LoanSimulatorServiceImpl loanSimulatorService(SimulationMetrics metrics) {
+        return new LoanSimulatorServiceImpl(table, bands, new InlineSimulationDispatcher(), metrics, (request, response) -> {
+        });
+    }
+
+    /**
+     * A simulator on the same bands and table that records its quotes to {@code recorder}.
+     */
+    LoanSimulatorServiceImpl loanSimulatorService(SimulationHistoryRecorder recorder) {
+        return new LoanSimulatorServiceImpl(table, bands, new InlineSimulationDispatcher(), SimulationMetrics.disabled(), recorder);
+    }
+}
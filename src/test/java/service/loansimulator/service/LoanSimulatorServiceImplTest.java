@@ -4,7 +4,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -27,8 +26,7 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class LoanSimulatorServiceImplTest {
 
-    @InjectMocks
-    private LoanSimulatorServiceImpl loanSimulatorService;
+    private final LoanSimulatorServiceImpl loanSimulatorService = new LoanSimulatorFixture().loanSimulatorService();
     private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_EVEN;
 
     @Test
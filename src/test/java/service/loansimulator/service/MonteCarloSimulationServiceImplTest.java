@@ -0,0 +1,111 @@
+package service.loansimulator.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.exception.LoanValidationException;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.LoanSimulationResponse;
+import service.loan.model.MeanRevertingRateModel;
+import service.loan.model.MonteCarloSimulationRequest;
+import service.loan.model.MonteCarloSimulationResponse;
+import service.loan.service.impl.LoanSimulatorServiceImpl;
+import service.loan.service.impl.MonteCarloSimulationServiceImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MonteCarloSimulationServiceImplTest {
+    private final LoanSimulatorFixture fixture = new LoanSimulatorFixture();
+    private final LoanSimulatorProperties properties = fixture.properties();
+    private final LoanSimulatorServiceImpl loanSimulatorService = fixture.loanSimulatorService();
+
+    private MonteCarloSimulationRequest request(long seed, int paths, String volatility) {
+        return MonteCarloSimulationRequest.builder()
+                .loanAmount(new BigDecimal("200000.00"))
+                .paymentTermInMonths(360)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .rateModel(MeanRevertingRateModel.builder()
+                        .seed(seed)
+                        .paths(paths)
+                        .volatility(new BigDecimal(volatility))
+                        .meanReversion(new BigDecimal("0.3"))
+                        .build())
+                .build();
+    }
+
+    private MonteCarloSimulationResponse simulate(int parallelism, MonteCarloSimulationRequest request) {
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            return new MonteCarloSimulationServiceImpl(loanSimulatorService, fixture.bands(), pool, properties).simulate(request);
+        }
+    }
+
+    @Test
+    @DisplayName("Should give the same result for a seed regardless of the pool size")
+    void simulate_IsDeterministicForSeed() {
+        MonteCarloSimulationResponse sequential = this.simulate(1, this.request(42L, 5000, "0.01"));
+        MonteCarloSimulationResponse parallel = this.simulate(4, this.request(42L, 5000, "0.01"));
+        MonteCarloSimulationResponse otherSeed = this.simulate(4, this.request(43L, 5000, "0.01"));
+
+        assertEquals(sequential, parallel);
+        assertNotEquals(sequential, otherSeed);
+        assertTrue(sequential.getMonthlyPayment().getP5().compareTo(sequential.getMonthlyPayment().getP50()) < 0);
+        assertTrue(sequential.getMonthlyPayment().getP50().compareTo(sequential.getMonthlyPayment().getP95()) < 0);
+    }
+
+    @Test
+    @DisplayName("Should reduce to the fixed-rate annuity without volatility")
+    void simulate_MatchesFixedRateWithoutVolatility() {
+        MonteCarloSimulationResponse response = this.simulate(2, this.request(7L, 300, "0"));
+        LoanSimulationResponse fixed = loanSimulatorService.computeSimulation(LoanSimulationRequest.builder()
+                .loanAmount(new BigDecimal("200000.00")).paymentTermInMonths(360).birthDate(LocalDate.of(1990, 1, 1)).build());
+
+        for (BigDecimal payment : new BigDecimal[]{response.getMonthlyPayment().getP5(), response.getMonthlyPayment().getP95(), response.getPeakMonthlyPayment().getP50()}) {
+            assertTrue(payment.subtract(fixed.getMonthlyPayment()).abs().compareTo(new BigDecimal("0.01")) <= 0, payment.toString());
+        }
+        assertTrue(response.getExpectedTotalInterest().subtract(fixed.getTotalInterest()).abs().compareTo(new BigDecimal("2.00")) <= 0);
+    }
+
+    @Test
+    @DisplayName("Should reject runs above the configured path-month budget")
+    void simulate_RejectsOversizedRun() {
+        properties.getMonteCarlo().setMaxPathMonths(1_000_000);
+
+        assertThrows(LoanValidationException.class, () -> this.simulate(1, this.request(1L, 5000, "0.01")));
+    }
+
+    @Test
+    @DisplayName("Should reject path counts above the limit even for one-month terms")
+    void simulate_RejectsTooManyPaths() {
+        MonteCarloSimulationRequest request = this.request(1L, 36_000_000, "0.01");
+        request.setPaymentTermInMonths(1);
+
+        LoanValidationException exception = assertThrows(LoanValidationException.class, () -> this.simulate(1, request));
+        assertEquals("Paths must not exceed 100000", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject a long-term rate outside the rate bands")
+    void simulate_RejectsLongTermRateOutsideBands() {
+        MonteCarloSimulationRequest request = this.request(1L, 100, "0.01");
+        request.getRateModel().setLongTermRate(new BigDecimal("0.5"));
+
+        LoanValidationException exception = assertThrows(LoanValidationException.class, () -> this.simulate(1, request));
+        assertEquals("Long-term rate must be between 0.02 and 0.05", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject a rate model whose paths diverge")
+    void simulate_RejectsDivergingPaths() {
+        MonteCarloSimulationRequest request = this.request(1L, 100, "0.01");
+        request.getRateModel().setMeanReversion(new BigDecimal("1000"));
+
+        assertThrows(LoanValidationException.class, () -> this.simulate(1, request));
+    }
+}
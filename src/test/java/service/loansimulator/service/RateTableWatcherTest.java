@@ -0,0 +1,96 @@
+package service.loansimulator.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.service.rate.InterestRateBands;
+import service.loan.service.rate.RateTableWatcher;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RateTableWatcherTest {
+    private static final String BANDS = """
+            [
+              {"maxAge": 30, "annualRate": %s},
+              {"maxAge": null, "annualRate": 0.04}
+            ]
+            """;
+
+    @TempDir
+    Path directory;
+
+    private final InterestRateBands bands = new InterestRateBands(event -> {
+    });
+    private RateTableWatcher watcher;
+
+    @AfterEach
+    void tearDown() {
+        watcher.stop();
+    }
+
+    private RateTableWatcher start(Path file) {
+        LoanSimulatorProperties properties = new LoanSimulatorProperties();
+        properties.getRates().setFile(file.toString());
+        properties.getRates().setReloadDelay(Duration.ofMillis(50));
+        watcher = new RateTableWatcher(bands, Jackson2ObjectMapperBuilder.json().build(), properties);
+        watcher.start();
+        return watcher;
+    }
+
+    private void write(Path file, String content) throws IOException {
+        Path temp = Files.writeString(directory.resolve("rates.json.tmp"), content);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private BigDecimal youngRate() {
+        return bands.annualRateForBirthDate(LocalDate.now().minusYears(20));
+    }
+
+    private void awaitYoungRate(String expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (youngRate().compareTo(new BigDecimal(expected)) != 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, youngRate().compareTo(new BigDecimal(expected)));
+    }
+
+    @Test
+    @DisplayName("Should load the rate file at startup and reload it when replaced")
+    void start_LoadsAndReloadsRateFile() throws Exception {
+        Path file = directory.resolve("rates.json");
+        this.write(file, BANDS.formatted("0.06"));
+
+        this.start(file);
+        assertEquals(0, youngRate().compareTo(new BigDecimal("0.06")));
+
+        this.write(file, BANDS.formatted("0.08"));
+        this.awaitYoungRate("0.08");
+    }
+
+    @Test
+    @DisplayName("Should keep the current bands when the new file is invalid")
+    void reload_IgnoresInvalidFile() throws Exception {
+        Path file = directory.resolve("rates.json");
+        this.write(file, BANDS.formatted("0.06"));
+        this.start(file);
+
+        this.write(file, "[{\"maxAge\": 30, \"annualRate\": -1}]");
+        this.write(file, BANDS.formatted("0.07"));
+        this.awaitYoungRate("0.07");
+
+        this.write(file, "not json");
+        Thread.sleep(300);
+        assertEquals(0, youngRate().compareTo(new BigDecimal("0.07")));
+    }
+}
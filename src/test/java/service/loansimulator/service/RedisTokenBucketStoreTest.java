@@ -0,0 +1,96 @@
+package service.loansimulator.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import redis.embedded.RedisServer;
+import service.loan.service.quota.RedisTokenBucketStore;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the bucket script against a real Redis server started from the test classpath.
+ */
+class RedisTokenBucketStoreTest {
+    private static RedisServer server;
+    private static String redisUri;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = new RedisServer(port);
+        server.start();
+        redisUri = "redis://localhost:" + port;
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("Should grant tokens from one bucket to several replicas at once without losing updates")
+    void take_SharedAcrossConnections() throws Exception {
+        List<RedisTokenBucketStore> replicas = List.of(this.store(), this.store(), this.store());
+        try (ExecutorService executor = Executors.newFixedThreadPool(6)) {
+            List<Future<Long>> takes = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                RedisTokenBucketStore replica = replicas.get(i % replicas.size());
+                takes.add(executor.submit(() -> replica.take("shared", 10, 500, Duration.ofHours(1))));
+            }
+            long granted = 0;
+            for (Future<Long> take : takes) {
+                granted += take.get();
+            }
+            assertEquals(500, granted);
+        } finally {
+            replicas.forEach(RedisTokenBucketStore::close);
+        }
+    }
+
+    @Test
+    @DisplayName("Should grant what is left, refill over time and survive a flushed script cache")
+    void take_RefillsAndReloadsScript() throws Exception {
+        try (RedisTokenBucketStore store = this.store()) {
+            assertEquals(8, store.take("refill", 8, 10, Duration.ofMillis(200)));
+            assertEquals(2, store.take("refill", 8, 10, Duration.ofMillis(200)));
+            assertEquals(0, store.take("refill", 8, 10, Duration.ofMillis(200)));
+
+            Thread.sleep(100);
+            long refilled = store.take("refill", 10, 10, Duration.ofMillis(200));
+            assertTrue(refilled >= 4 && refilled <= 10, "refilled " + refilled);
+
+            server.stop();
+            server.start();
+            Thread.sleep(300);
+            assertEquals(10, store.take("refill", 10, 10, Duration.ofMillis(200)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail fast when Redis cannot be reached")
+    void take_Unreachable() {
+        try (RedisTokenBucketStore store = new RedisTokenBucketStore("redis://localhost:1", Duration.ofMillis(100), "test:")) {
+            assertThrows(RuntimeException.class, () -> store.take("any", 1, 10, Duration.ofSeconds(1)));
+        }
+    }
+
+    private RedisTokenBucketStore store() {
+        return new RedisTokenBucketStore(redisUri, Duration.ofSeconds(2), "test:");
+    }
+}
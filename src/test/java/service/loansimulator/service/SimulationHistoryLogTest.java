@@ -0,0 +1,284 @@
+package service.loansimulator.service;
+
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.exception.GlobalExceptionHandler;
+import service.loan.exception.LoanSimulationException;
+import service.loan.exception.SimulationHistoryUnavailableException;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.LoanSimulationResponse;
+import service.loan.model.SimulationHistoryEntry;
+import service.loan.service.cache.CachingLoanSimulatorService;
+import service.loan.service.history.HistoryRecord;
+import service.loan.service.history.SimulationHistoryLog;
+import service.loan.service.impl.SimulationHistoryServiceImpl;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimulationHistoryLogTest {
+    private static final Instant START = Instant.parse("2024-03-01T10:00:00Z");
+
+    /**
+     * Clock whose instant can be moved forward from the test while the writer thread reads it. It can also hold the
+     * writer thread, which reads it on every loop, to let the queue fill up.
+     */
+    private static final class MutableClock extends Clock {
+        private volatile Instant instant = START;
+        private volatile CountDownLatch writerGate;
+        private volatile boolean writerHeld;
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        void holdWriter() {
+            writerGate = new CountDownLatch(1);
+        }
+
+        void releaseWriter() {
+            if (writerGate != null) {
+                writerGate.countDown();
+            }
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            CountDownLatch gate = writerGate;
+            if (gate != null && Thread.currentThread().getName().equals("simulation-history-writer")) {
+                writerHeld = true;
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return instant;
+        }
+    }
+
+    @TempDir
+    Path directory;
+    private final LoanSimulatorProperties properties = new LoanSimulatorProperties();
+    private final MutableClock clock = new MutableClock();
+    private final List<SimulationHistoryLog> logs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        properties.getHistory().setEnabled(true);
+        properties.getHistory().setDirectory(directory.toString());
+        properties.getHistory().setForceInterval(Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        clock.releaseWriter();
+        logs.forEach(SimulationHistoryLog::stop);
+    }
+
+    private SimulationHistoryLog startLog() {
+        SimulationHistoryLog log = new SimulationHistoryLog(properties, clock);
+        log.start();
+        logs.add(log);
+        return log;
+    }
+
+    private static void record(SimulationHistoryLog log, String loanAmount) {
+        LoanSimulationRequest request = LoanSimulationRequest.builder()
+                .loanAmount(new BigDecimal(loanAmount)).birthDate(LocalDate.of(1990, 1, 1)).paymentTermInMonths(60).build();
+        LoanSimulationResponse response = LoanSimulationResponse.builder()
+                .monthlyPayment(new BigDecimal("179.69")).totalAmount(new BigDecimal("10781.40"))
+                .totalInterest(new BigDecimal("781.40")).annualInterestRate(new BigDecimal("3.00")).build();
+        log.record(request, response);
+    }
+
+    private static List<HistoryRecord> all(SimulationHistoryLog log) {
+        return log.query(Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.sleep(5);
+        }
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    @DisplayName("Should return recorded quotes filtered by time and loan amount")
+    void query_FiltersByTimeAndAmount() throws InterruptedException {
+        SimulationHistoryLog log = this.startLog();
+        record(log, "10000.00");
+        clock.advance(Duration.ofMinutes(1));
+        record(log, "20000.00");
+        clock.advance(Duration.ofMinutes(1));
+        record(log, "30000.015");
+        await(() -> all(log).size() == 3);
+
+        SimulationHistoryServiceImpl service = new SimulationHistoryServiceImpl(log, properties);
+        List<SimulationHistoryEntry> entries = service.findHistory(START.plusSeconds(30), null, null, new BigDecimal("30000.00"), null);
+
+        assertEquals(1, entries.size());
+        SimulationHistoryEntry entry = entries.getFirst();
+        assertEquals(START.plus(Duration.ofMinutes(1)), entry.getQuotedAt());
+        assertEquals(new BigDecimal("20000.00"), entry.getLoanAmount());
+        assertEquals(LocalDate.of(1990, 1, 1), entry.getBirthDate());
+        assertEquals(new BigDecimal("3.00"), entry.getAnnualInterestRate());
+        assertEquals(new BigDecimal("179.69"), entry.getMonthlyPayment());
+        assertEquals(new BigDecimal("30000.02"), service.findHistory(null, null, new BigDecimal("30000.01"), null, null).getFirst().getLoanAmount());
+        assertEquals(2, service.findHistory(null, null, null, null, 2).size());
+        assertThrows(LoanSimulationException.class, () -> service.findHistory(START, START.minusSeconds(1), null, null, null));
+    }
+
+    @Test
+    @DisplayName("Should roll segments when full or old and delete them after the retention period")
+    void record_RollsAndExpiresSegments() throws Exception {
+        properties.getHistory().setSegmentRecords(4);
+        properties.getHistory().setRollInterval(Duration.ofHours(1));
+        properties.getHistory().setRetention(Duration.ofDays(1));
+        SimulationHistoryLog log = this.startLog();
+        for (int i = 0; i < 6; i++) {
+            record(log, "1000.00");
+        }
+        await(() -> all(log).size() == 6);
+        clock.advance(Duration.ofHours(2));
+        record(log, "2000.00");
+        await(() -> all(log).size() == 7);
+        assertEquals(3, this.segmentFiles());
+
+        clock.advance(Duration.ofHours(23));
+        await(() -> all(log).size() == 1);
+
+        assertEquals(1, this.segmentFiles());
+        assertEquals(200_000, all(log).getFirst().loanAmountCents());
+    }
+
+    @Test
+    @DisplayName("Should recover published and unpublished records after a restart and ignore a torn record")
+    void start_RecoversExistingSegments() throws Exception {
+        SimulationHistoryLog first = this.startLog();
+        for (int i = 0; i < 5; i++) {
+            record(first, "5000.00");
+        }
+        await(() -> all(first).size() == 5);
+        first.stop();
+
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(16);
+            file.writeLong(3);
+            file.seek(64 + 5 * HistoryRecord.BYTES);
+            file.writeLong(START.toEpochMilli());
+            file.writeLong(123);
+        }
+
+        SimulationHistoryLog second = this.startLog();
+        assertEquals(5, all(second).size());
+        record(second, "6000.00");
+        await(() -> all(second).size() == 6);
+        assertEquals(600_000, all(second).getLast().loanAmountCents());
+    }
+
+    @Test
+    @DisplayName("Should fail the request and count it when the queue stays full")
+    void record_QueueFull_FailsRequest() throws InterruptedException {
+        properties.getHistory().setQueueCapacity(1);
+        properties.getHistory().setEnqueueTimeout(Duration.ofMillis(20));
+        SimulationHistoryLog log = this.startLog();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        log.bindTo(registry);
+        clock.holdWriter();
+        await(() -> clock.writerHeld);
+
+        record(log, "1000.00");
+        assertThrows(SimulationHistoryUnavailableException.class, () -> record(log, "2000.00"));
+        assertEquals(1.0, registry.get("loan.simulation.history.rejected").functionCounter().count());
+
+        clock.releaseWriter();
+        await(() -> all(log).size() == 1);
+        assertEquals(100_000, all(log).getFirst().loanAmountCents());
+    }
+
+    @Test
+    @DisplayName("Should answer a cache miss with 503, unwrapped, when the history is not keeping up")
+    void simulateLoan_HistoryFull_Answers503() {
+        AtomicInteger attempts = new AtomicInteger();
+        CachingLoanSimulatorService service = new CachingLoanSimulatorService(new LoanSimulatorFixture().loanSimulatorService((request, response) -> {
+            attempts.incrementAndGet();
+            throw new SimulationHistoryUnavailableException("Simulation history is not keeping up; try again later");
+        }), properties, new SimpleMeterRegistry(), (request, response) -> {
+        }, RateLimiterRegistry.ofDefaults());
+        LoanSimulationRequest request = LoanSimulationRequest.builder()
+                .loanAmount(new BigDecimal("1000.00"))
+                .paymentTermInMonths(12)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .build();
+
+        SimulationHistoryUnavailableException thrown = assertThrows(SimulationHistoryUnavailableException.class, () -> service.simulateLoan(request));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, new GlobalExceptionHandler().resolve(thrown).getStatusCode());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Should refuse to start without an absolute directory")
+    void start_RelativeDirectory_Throws() {
+        properties.getHistory().setDirectory("data/history");
+
+        assertThrows(IllegalStateException.class, () -> new SimulationHistoryLog(properties, clock).start());
+    }
+
+    @Test
+    @DisplayName("Should reject history queries when the history is disabled")
+    void findHistory_Disabled_Throws() {
+        properties.getHistory().setEnabled(false);
+        SimulationHistoryServiceImpl service = new SimulationHistoryServiceImpl(new SimulationHistoryLog(properties, clock), properties);
+
+        assertThrows(LoanSimulationException.class, () -> service.findHistory(null, null, null, null, null));
+    }
+}
@@ -0,0 +1,66 @@
+package service.loansimulator.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.exception.GlobalExceptionHandler;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.model.SimulationJob;
+import service.loan.model.SimulationJobStatus;
+import service.loan.service.overflow.InMemorySimulationJobQueue;
+import service.loan.service.overflow.SimulationJobStore;
+import service.loan.service.overflow.SimulationJobWorker;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimulationJobWorkerTest {
+    private final LoanSimulatorFixture fixture = new LoanSimulatorFixture();
+    private final LoanSimulatorProperties properties = fixture.properties();
+    private final InMemorySimulationJobQueue queue = new InMemorySimulationJobQueue(10, Duration.ofSeconds(30));
+    private final SimulationJobStore store = new SimulationJobStore(properties);
+    private final SimulationJobWorker worker = new SimulationJobWorker(queue, store, fixture.loanSimulatorService(), new GlobalExceptionHandler(), properties);
+
+    @AfterEach
+    void tearDown() {
+        worker.stop();
+    }
+
+    @Test
+    @DisplayName("Should run a queued job the job store evicted before a worker picked it up")
+    void process_EvictedPendingJob_RunsFromMessage() throws InterruptedException {
+        SimulationJob job = SimulationJob.builder()
+                .jobId("job-1")
+                .status(SimulationJobStatus.PENDING)
+                .submittedAt(Instant.now())
+                .request(LoanSimulationRequest.builder()
+                        .loanAmount(new BigDecimal("10000.00"))
+                        .paymentTermInMonths(12)
+                        .birthDate(LocalDate.of(1990, 1, 1))
+                        .build())
+                .build();
+        store.save(job);
+        queue.sendMessage(job);
+        store.remove(job.getJobId());
+
+        worker.start();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        Optional<SimulationJob> finished = store.find(job.getJobId());
+        while (finished.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            finished = store.find(job.getJobId());
+        }
+        assertTrue(finished.isPresent());
+        assertEquals(SimulationJobStatus.COMPLETED, finished.get().getStatus());
+        assertEquals(new BigDecimal("846.94"), finished.get().getResult().getMonthlyPayment());
+        assertEquals(0, queue.approximateNumberOfMessages());
+    }
+}
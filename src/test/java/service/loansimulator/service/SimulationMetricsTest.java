@@ -0,0 +1,141 @@
+package service.loansimulator.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.aop.framework.ProxyFactory;
+import service.loan.config.LoanSimulatorProperties;
+import service.loan.exception.LoanSimulationException;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.service.LoanSimulatorService;
+import service.loan.service.metrics.SimulationMetrics;
+import service.loan.service.metrics.SimulationMetricsInterceptor;
+import service.loan.service.metrics.SimulationStage;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimulationMetricsTest {
+    private final LoanSimulatorFixture fixture = new LoanSimulatorFixture();
+    private final LoanSimulatorProperties properties = fixture.properties();
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        properties.getMetrics().setSamplingProbability(1.0);
+    }
+
+    private LoanSimulatorService timedService() {
+        return this.timedService(new SimulationMetrics(registry, properties.getMetrics()));
+    }
+
+    private LoanSimulatorService timedService(SimulationMetrics metrics) {
+        ProxyFactory factory = new ProxyFactory(fixture.loanSimulatorService(metrics));
+        factory.addAdvice(new SimulationMetricsInterceptor(() -> metrics));
+        return (LoanSimulatorService) factory.getProxy();
+    }
+
+    private static LoanSimulationRequest request(String amount, LocalDate birthDate, int term) {
+        return LoanSimulationRequest.builder().loanAmount(new BigDecimal(amount)).birthDate(birthDate).paymentTermInMonths(term).build();
+    }
+
+    private Timer stage(SimulationStage stage) {
+        return registry.get(SimulationMetrics.STAGE_TIMER).tag("stage", stage.tag()).timer();
+    }
+
+    @Test
+    @DisplayName("Should time every stage and count simulations by rate and term bucket")
+    void simulateLoan_RecordsStagesAndCounts() {
+        LoanSimulatorService service = this.timedService();
+
+        service.simulateLoan(request("10000.00", LocalDate.of(1990, 1, 1), 360));
+        service.simulateLoan(request("10000.00", LocalDate.of(1990, 1, 1), 400));
+        service.simulateLoan(request("10000.00", LocalDate.of(1950, 1, 1), 12));
+
+        for (SimulationStage stage : new SimulationStage[]{SimulationStage.VALIDATION, SimulationStage.RATE_LOOKUP,
+                SimulationStage.PAYMENT, SimulationStage.DISPATCH, SimulationStage.RESILIENCE}) {
+            assertEquals(3, this.stage(stage).count(), stage.tag());
+        }
+        assertEquals(0, this.stage(SimulationStage.SERIALIZATION).count());
+        Timer call = registry.get(SimulationMetrics.CALL_TIMER).timer();
+        assertEquals(3, call.count());
+        assertTrue(call.totalTime(TimeUnit.NANOSECONDS) >= this.stage(SimulationStage.PAYMENT).totalTime(TimeUnit.NANOSECONDS));
+        assertEquals(1, registry.get(SimulationMetrics.SIMULATIONS_COUNTER).tag("rate", "3.00").tag("term", "241-360").counter().count());
+        assertEquals(1, registry.get(SimulationMetrics.SIMULATIONS_COUNTER).tag("rate", "3.00").tag("term", "361+").counter().count());
+        assertEquals(1, registry.get(SimulationMetrics.SIMULATIONS_COUNTER).tag("rate", "4.00").tag("term", "1-12").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should record allocation on platform threads and skip virtual threads")
+    void simulateLoan_RecordsAllocationWhenReported() throws InterruptedException {
+        LoanSimulatorService service = this.timedService();
+        LoanSimulationRequest request = request("10000.00", LocalDate.of(1990, 1, 1), 60);
+
+        service.simulateLoan(request);
+        Thread.ofVirtual().start(() -> service.simulateLoan(request)).join();
+
+        assertEquals(2, registry.get(SimulationMetrics.CALL_TIMER).timer().count());
+        assertEquals(1, registry.get(SimulationMetrics.ALLOCATED_SUMMARY).summary().count());
+        assertTrue(registry.get(SimulationMetrics.ALLOCATED_SUMMARY).summary().totalAmount() > 0);
+    }
+
+    @Test
+    @DisplayName("Should not register the allocation summary when requests run on virtual threads")
+    void simulationMetrics_VirtualRequestThreads_SkipsAllocation() {
+        LoanSimulatorService service = this.timedService(new SimulationMetrics(registry, properties.getMetrics(), false));
+
+        service.simulateLoan(request("10000.00", LocalDate.of(1990, 1, 1), 60));
+
+        assertEquals(1, registry.get(SimulationMetrics.CALL_TIMER).timer().count());
+        assertNull(registry.find(SimulationMetrics.ALLOCATED_SUMMARY).summary());
+    }
+
+    @Test
+    @DisplayName("Should attribute a rejected request to validation and the aspects only")
+    void simulateLoan_InvalidRequestSkipsCalculationStages() {
+        LoanSimulatorService service = this.timedService();
+
+        assertThrows(LoanSimulationException.class, () -> service.simulateLoan(request("0", LocalDate.of(1990, 1, 1), 60)));
+
+        assertEquals(1, registry.get(SimulationMetrics.CALL_TIMER).timer().count());
+        assertEquals(1, this.stage(SimulationStage.RESILIENCE).count());
+        assertEquals(0, this.stage(SimulationStage.PAYMENT).count());
+        assertNull(registry.find(SimulationMetrics.SIMULATIONS_COUNTER).counter());
+    }
+
+    @Test
+    @DisplayName("Should count every simulation but time none when no call is sampled")
+    void simulateLoan_UnsampledCallsAreCountedOnly() {
+        properties.getMetrics().setSamplingProbability(0.0);
+        LoanSimulatorService service = this.timedService();
+
+        service.simulateLoan(request("10000.00", LocalDate.of(1990, 1, 1), 60));
+        service.simulateLoan(request("10000.00", LocalDate.of(1990, 1, 1), 60));
+
+        assertEquals(0, registry.get(SimulationMetrics.CALL_TIMER).timer().count());
+        assertEquals(0, this.stage(SimulationStage.PAYMENT).count());
+        assertEquals(2, registry.get(SimulationMetrics.SIMULATIONS_COUNTER).tag("rate", "3.00").tag("term", "13-60").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should record nothing when disabled")
+    void simulateLoan_DisabledRecordsNothing() {
+        properties.getMetrics().setEnabled(false);
+        SimulationMetrics disabled = new SimulationMetrics(registry, properties.getMetrics());
+        LoanSimulatorService service = fixture.loanSimulatorService(disabled);
+
+        service.simulateLoan(request("10000.00", LocalDate.of(1990, 1, 1), 60));
+
+        assertEquals(0, this.stage(SimulationStage.PAYMENT).count());
+        assertNull(registry.find(SimulationMetrics.SIMULATIONS_COUNTER).counter());
+    }
+}
@@ -0,0 +1,95 @@
+package service.loansimulator.validation;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.ErrorResponse;
+import service.loan.exception.GlobalExceptionHandler;
+import service.loan.exception.LoanValidationException;
+import service.loan.model.LoanSimulationRequest;
+import service.loan.validation.LoanSimulationRequestValidator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoanSimulationRequestValidatorTest {
+    private final LoanSimulationRequestValidator requestValidator = new LoanSimulationRequestValidator();
+
+    @Test
+    @DisplayName("Should report the same field errors as bean validation for every combination")
+    void check_MatchesBeanValidation() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        BigDecimal[] loanAmounts = {null, BigDecimal.ZERO, new BigDecimal("-1"), new BigDecimal("0.01")};
+        LocalDate[] birthDates = {null, LocalDate.of(1990, 1, 1)};
+        Integer[] paymentTerms = {null, 0, -1, 12};
+        for (BigDecimal loanAmount : loanAmounts) {
+            for (LocalDate birthDate : birthDates) {
+                for (Integer paymentTerm : paymentTerms) {
+                    LoanSimulationRequest request = LoanSimulationRequest.builder().loanAmount(loanAmount).birthDate(birthDate).paymentTermInMonths(paymentTerm).build();
+                    Set<String> expected = validator.validate(request).stream()
+                            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                            .collect(Collectors.toSet());
+
+                    LoanValidationException rejection = requestValidator.check(request);
+
+                    if (expected.isEmpty()) {
+                        assertNull(rejection, request.toString());
+                    } else {
+                        assertEquals(expected, Set.copyOf(Arrays.asList(rejection.getMessage().split("; "))), request.toString());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a birth date in the future only when the fields are valid")
+    void check_BirthDateInFuture() {
+        LoanSimulationRequest request = LoanSimulationRequest.builder().loanAmount(BigDecimal.TEN).birthDate(LocalDate.now().plusDays(1)).paymentTermInMonths(12).build();
+        LoanSimulationRequest alsoInvalidTerm = LoanSimulationRequest.builder().loanAmount(BigDecimal.TEN).birthDate(LocalDate.now().plusDays(1)).paymentTermInMonths(0).build();
+
+        assertEquals("Birth date cannot be in the future", requestValidator.check(request).getMessage());
+        assertEquals("paymentTermInMonths: Payment term must be positive", requestValidator.check(alsoInvalidTerm).getMessage());
+        assertEquals("Request is required", assertThrows(LoanValidationException.class, () -> requestValidator.validate(null)).getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reuse one stackless rejection per outcome")
+    void check_ReusesStacklessRejections() {
+        LoanSimulationRequest first = LoanSimulationRequest.builder().loanAmount(BigDecimal.ZERO).birthDate(LocalDate.of(1990, 1, 1)).paymentTermInMonths(12).build();
+        LoanSimulationRequest second = LoanSimulationRequest.builder().loanAmount(new BigDecimal("-5")).birthDate(LocalDate.of(1970, 1, 1)).paymentTermInMonths(360).build();
+
+        LoanValidationException rejection = requestValidator.check(first);
+
+        assertSame(rejection, requestValidator.check(second));
+        assertEquals(0, rejection.getStackTrace().length);
+        rejection.addSuppressed(new IllegalStateException());
+        assertEquals(0, rejection.getSuppressed().length);
+    }
+
+    @Test
+    @DisplayName("Should answer with the response the exception handler gives the rejection")
+    void reject_MatchesExceptionHandler() {
+        GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
+        LoanSimulationRequest valid = LoanSimulationRequest.builder().loanAmount(BigDecimal.TEN).birthDate(LocalDate.of(1990, 1, 1)).paymentTermInMonths(12).build();
+        LoanSimulationRequest invalid = LoanSimulationRequest.builder().loanAmount(BigDecimal.ZERO).birthDate(null).paymentTermInMonths(12).build();
+
+        ResponseEntity<ErrorResponse> response = requestValidator.reject(invalid);
+        ResponseEntity<ErrorResponse> expected = exceptionHandler.handleLoanValidationException(requestValidator.check(invalid));
+
+        assertNull(requestValidator.reject(valid));
+        assertSame(response, requestValidator.reject(invalid));
+        assertEquals(expected.getStatusCode(), response.getStatusCode());
+        assertEquals(expected.getBody().getBody(), response.getBody().getBody());
+    }
+}